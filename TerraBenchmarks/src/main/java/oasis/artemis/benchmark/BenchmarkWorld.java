@@ -0,0 +1,24 @@
+package oasis.artemis.benchmark;
+
+import oasis.artemis.string.TString;
+import oasis.artemis.world.AbstractWorld;
+import org.joda.time.Duration;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * <h2>BenchmarkWorld</h2>
+ * <p>
+ * An empty world which does nothing when ticked.
+ * Used to construct locations in benchmarks.
+ * </p>
+ */
+final class BenchmarkWorld extends AbstractWorld {
+    BenchmarkWorld() {
+        super(UUID.randomUUID(), TString.of("Benchmark"));
+    }
+
+    @Override
+    public void tick(@Nonnull Duration delta) {}
+}
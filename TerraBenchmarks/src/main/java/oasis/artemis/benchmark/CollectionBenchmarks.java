@@ -0,0 +1,92 @@
+package oasis.artemis.benchmark;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.collection.set.TPersistentSet;
+import oasis.artemis.map.THashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>CollectionBenchmarks</h2>
+ * <p>
+ * Benchmarks the hot paths of Terra collections.
+ * Every collection is filled with {@code size} random elements.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmarks {
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private TArray<Integer> array;
+    private THashMap<Integer, Integer> map;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(SEED);
+
+        array = new TArray<>(size);
+        map = new THashMap<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final int value = random.nextInt();
+            array.add(value);
+            map.put(i, value);
+        }
+    }
+
+    @Benchmark
+    public TList<Integer> arrayFilter() {
+        return array.filter(i -> (i & 1) == 0);
+    }
+
+    @Benchmark
+    public TList<Integer> arrayLazyFilter() {
+        return array.lazy().filter(i -> (i & 1) == 0).list();
+    }
+
+    @Benchmark
+    public long mapEntrySet() {
+        long sum = 0;
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            sum += entry.getKey() + entry.getValue();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public TPersistentSet<Integer> persistentSetPlus() {
+        TPersistentSet<Integer> set = TPersistentSet.empty();
+        for (Integer i : array) set = set.plus(i);
+
+        return set;
+    }
+
+    @Benchmark
+    public TPersistentSet<Integer> persistentSetPlusAll() {
+        final TPersistentSet<Integer> set = TPersistentSet.empty();
+        return set.plusAll(array);
+    }
+
+    private static final long SEED = 42;
+}
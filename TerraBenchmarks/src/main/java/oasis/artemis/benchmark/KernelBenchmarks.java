@@ -0,0 +1,68 @@
+package oasis.artemis.benchmark;
+
+import oasis.artemis.physics.kernel.PhysicsKernel;
+import oasis.artemis.physics.kernel.ScalarPhysicsKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>KernelBenchmarks</h2>
+ * <p>
+ * Benchmarks the scalar physics kernel against the default kernel,
+ * which is vectorized when built with the {@code vector} profile, since the forked JVM adds the {@code jdk.incubator.vector} module.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class KernelBenchmarks {
+    @Param({"1024", "65536"})
+    public int size;
+
+    @Param({"scalar", "default"})
+    public String kernel;
+
+    private PhysicsKernel physicsKernel;
+    private double[] px, py, pz, vx, vy, vz, limitX, limitY, limitZ;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(SEED);
+
+        physicsKernel = kernel.equals("scalar") ? ScalarPhysicsKernel.INSTANCE : PhysicsKernel.getDefault();
+        px = random.doubles(size).toArray();
+        py = random.doubles(size).toArray();
+        pz = random.doubles(size).toArray();
+        vx = random.doubles(size, -1, 1).toArray();
+        vy = random.doubles(size, -1, 1).toArray();
+        vz = random.doubles(size, -1, 1).toArray();
+        limitX = random.doubles(size).toArray();
+        limitY = random.doubles(size).toArray();
+        limitZ = random.doubles(size).toArray();
+    }
+
+    @Benchmark
+    public double[] movement() {
+        physicsKernel.scale(vx, vy, vz, 1, size);
+        physicsKernel.clamp(vx, vy, vz, limitX, limitY, limitZ, size);
+        physicsKernel.integrate(px, py, pz, vx, vy, vz, 0.001, size);
+        return px;
+    }
+
+    private static final long SEED = 42;
+}
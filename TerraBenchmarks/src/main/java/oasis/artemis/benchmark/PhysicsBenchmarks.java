@@ -0,0 +1,125 @@
+package oasis.artemis.benchmark;
+
+import oasis.artemis.physics.Aabb;
+import oasis.artemis.physics.AabbTree;
+import oasis.artemis.physics.Location;
+import oasis.artemis.physics.TriLocation;
+import oasis.artemis.physics.Vector;
+import oasis.artemis.physics.Volume;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>PhysicsBenchmarks</h2>
+ * <p>
+ * Benchmarks the hot paths of physics value types.
+ * Every benchmark processes a batch of {@code size} random inputs,
+ * so the results are reported per batch.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBenchmarks {
+    @Param({"1", "1024"})
+    public int size;
+
+    private Location[] locations;
+    private Vector[] vectors;
+    private Volume[] volumes;
+    private TriLocation[] triLocations;
+    private Aabb[] aabbs;
+    private AabbTree<Aabb> aabbTree;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(SEED);
+        final BenchmarkWorld world = new BenchmarkWorld();
+
+        locations = new Location[size];
+        vectors = new Vector[size];
+        volumes = new Volume[size];
+        triLocations = new TriLocation[size];
+        aabbs = new Aabb[size];
+
+        for (int i = 0; i < size; i++) {
+            locations[i] = new Location(world, random.nextDouble() * 100, random.nextDouble() * 100, random.nextDouble() * 100);
+            vectors[i] = new Vector(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+            volumes[i] = new Volume(1 + random.nextDouble() * 10, 1 + random.nextDouble() * 10, 1 + random.nextDouble() * 10);
+            triLocations[i] = new TriLocation(locations[i], volumes[i]);
+            aabbs[i] = triLocations[i].getAabb();
+        }
+
+        aabbTree = AabbTree.build(Arrays.asList(aabbs), aabb -> aabb);
+    }
+
+    @Benchmark
+    public void locationPlusVector(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(locations[i].plusVector(vectors[i]));
+        }
+    }
+
+    @Benchmark
+    public void triLocationOverlaps(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(triLocations[i].overlaps(triLocations[size - 1 - i]));
+        }
+    }
+
+    @Benchmark
+    public void aabbOverlaps(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(aabbs[i].overlaps(aabbs[size - 1 - i]));
+        }
+    }
+
+    @Benchmark
+    public void aabbLinearQuery(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (aabbs[i].overlaps(aabbs[j])) blackhole.consume(aabbs[j]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void aabbTreeQuery(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            aabbTree.forEachOverlapping(aabbs[i], blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void volumeCrossSection(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(volumes[i].getCrossSection(vectors[i]));
+        }
+    }
+
+    @Benchmark
+    public void volumeCrossSectionAxis(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(volumes[i].getCrossSection(Vector.UP));
+        }
+    }
+
+    private static final long SEED = 42;
+}
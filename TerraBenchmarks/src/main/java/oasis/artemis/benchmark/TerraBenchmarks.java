@@ -0,0 +1,32 @@
+package oasis.artemis.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <h2>TerraBenchmarks</h2>
+ * <p>
+ * Runs the benchmarks of TerraTypes.
+ * The allocation rate of every benchmark is reported by the GC profiler,
+ * the same as running JMH with {@code -prof gc}.
+ * </p>
+ * <p>
+ * Build with {@code mvn -P benchmarks package}, then run {@code java -jar TerraBenchmarks/target/benchmarks.jar}.
+ * Standard JMH arguments are accepted, for example {@code PhysicsBenchmarks -p size=1024}.
+ * </p>
+ */
+public final class TerraBenchmarks {
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -14,8 +14,10 @@ import oasis.artemis.state.State;
 import oasis.artemis.string.Text;
 import oasis.artemis.task.debug.DebugTask;
 import oasis.artemis.task.physics.CollisionTask;
+import oasis.artemis.task.physics.FlushTask;
 import oasis.artemis.task.physics.GravityTask;
 import oasis.artemis.task.physics.MovementTask;
+import oasis.artemis.task.physics.PublishTask;
 import oasis.artemis.task.physics.ResistanceTask;
 import oasis.artemis.task.tick.TickTask;
 import oasis.artemis.world.RealisticWorld;
@@ -160,12 +162,18 @@ public final class TerraEngine {
 
     // Registers all tasks
     private static void registerTasks() {
+        // Flush, before every physics task
+        scheduler.registerTask(new FlushTask());
+
         // Physics
         scheduler.registerTask(new CollisionTask());
         scheduler.registerTask(new GravityTask());
         scheduler.registerTask(new MovementTask());
         scheduler.registerTask(new ResistanceTask());
 
+        // Publish, after every physics task
+        scheduler.registerTask(new PublishTask());
+
         // Tick
         scheduler.registerTask(ticker);
     }
@@ -177,6 +185,7 @@ public final class TerraEngine {
 
     // Registers all tickables
     private static void registerTickables() {
+        ticker.registerTickable(eventManager);
         ticker.registerTickable(state);
         ticker.registerTickable(graphics);
     }
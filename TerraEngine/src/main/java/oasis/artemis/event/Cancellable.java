@@ -1,5 +1,7 @@
 package oasis.artemis.event;
 
+import oasis.artemis.listener.Listener;
+
 /**
  * <h2>Cancellable</h2>
  * <p>
@@ -12,6 +14,11 @@ package oasis.artemis.event;
  * {@link Cancellable#isCancelled()} is false before processing.
  * If this is ignored, the event can be processed regardless of it being cancelled.
  * </p>
+ * <p>
+ * Events can opt into short-circuiting by overriding {@link Cancellable#isShortCircuiting()}.
+ * Once a short-circuiting event is cancelled, the event manager skips every succeeding listener
+ * with a priority lower than {@link Listener.Priority#MONITOR}.
+ * </p>
  */
 public interface Cancellable {
     /**
@@ -28,4 +35,14 @@ public interface Cancellable {
      * @param cancelled {@code true} to cancel this event
      */
     void setCancelled(boolean cancelled);
+
+    /**
+     * Returns whether the remaining non-monitor listeners should be skipped once this event is cancelled.
+     * Monitor listeners are always called, and can still see that the event was cancelled.
+     *
+     * @return {@code true} to skip non-monitor listeners after cancellation
+     */
+    default boolean isShortCircuiting() {
+        return false;
+    }
 }
@@ -0,0 +1,39 @@
+package oasis.artemis.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>Coalescable</h2>
+ * <p>
+ * This interface denotes that duplicates of an event can be merged into one.
+ * </p>
+ * <p>
+ * Coalescable events posted with {@link EventManager#postEvent(Event)} are queued until the end of the tick.
+ * Queued events of the same class with equal {@link Coalescable#getCoalescingKey() coalescing keys}
+ * are merged using {@link Coalescable#merge(Event)}, and dispatched only once.
+ * </p>
+ * <p>
+ * Events called with {@link EventManager#callEvent(Event)} are never coalesced.
+ * </p>
+ *
+ * @param <E> Type of event
+ */
+public interface Coalescable<E extends Event & Coalescable<E>> {
+    /**
+     * Gets the key of this event.
+     * Events of the same class with equal keys are considered duplicates.
+     *
+     * @return Coalescing key
+     */
+    @Nonnull
+    Object getCoalescingKey();
+
+    /**
+     * Merges a duplicate event posted later in the same tick into this one.
+     *
+     * @param duplicate Duplicate event
+     * @return Merged event
+     */
+    @Nonnull
+    E merge(@Nonnull E duplicate);
+}
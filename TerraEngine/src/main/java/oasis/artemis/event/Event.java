@@ -69,4 +69,7 @@ public abstract class Event {
 
     @Nullable
     private final Runnable onHandled;
+
+    // Trace ID of the sampled chain this event belongs to, 0 if not traced
+    long traceId;
 }
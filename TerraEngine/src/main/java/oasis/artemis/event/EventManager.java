@@ -2,10 +2,24 @@ package oasis.artemis.event;
 
 import oasis.artemis.collection.list.TArray;
 import oasis.artemis.collection.list.TList;
+import oasis.artemis.event.trace.EventTracer;
+import oasis.artemis.listener.Handler;
 import oasis.artemis.listener.Listener;
+import oasis.artemis.listener.ListenerFilter;
+import oasis.artemis.map.THashMap;
+import oasis.artemis.map.TMap;
+import oasis.artemis.map.TUuidMap;
+import oasis.artemis.object.TObject;
+import oasis.artemis.util.Tickable;
+import org.joda.time.Duration;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <h2>EventManager</h2>
@@ -14,46 +28,462 @@ import java.util.Comparator;
  * and the calling of events.
  * </p>
  * <p>
+ * Listeners can be registered with a {@link ListenerFilter}.
+ * Filtered listeners are indexed by their filter (e.g. by world ID),
+ * and are never called for events which do not match it.
+ * </p>
+ * <p>
+ * Besides {@link Listener}s, any object can be registered with {@link EventManager#registerHandlers(Object)}.
+ * Its {@link Handler} methods are discovered once, and compiled into direct invokers.
+ * The listeners to call are cached per class of event, so events are never type-checked per listener.
+ * </p>
+ * <p>
+ * Cancelled events which are {@link Cancellable#isShortCircuiting() short-circuiting}
+ * skip every remaining listener with a priority lower than {@link Listener.Priority#MONITOR}.
+ * </p>
+ * <p>
+ * When profiling is enabled, the invocation count and cumulative time of each listener
+ * are recorded, and can be retrieved with {@link EventManager#getListenerStats()}.
+ * </p>
+ * <p>
+ * Events can also be posted with {@link EventManager#postEvent(Event)}, which defers them until the end of the tick.
+ * Posted {@link Coalescable} events with the same key are merged, and dispatched only once.
+ * </p>
+ * <p>
+ * An optional {@link EventTracer} can be set to record the listener timings
+ * of a sample of event chains. When no tracer is set, tracing costs a single field read per event.
+ * </p>
+ * <p>
  * You can extend this class to implement asynchronous processing,
  * which is not possible by default.
  * </p>
  */
-public class EventManager {
+public class EventManager implements Tickable {
     /**
      * Calls an event to be handled.
      *
      * @param event Event to call
      */
     public void callEvent(@Nonnull Event event) {
-        listeners.forEach(l -> l.handleRaw(event));
+        final EventTracer tracer = this.tracer;
+
+        if (tracer == null || !trace(tracer, event)) {
+            dispatch(event, getListeners(event), null, 0, 0);
+        }
 
         final Runnable onHandled = event.onHandled();
         if (onHandled != null) onHandled.run();
     }
 
+    /**
+     * Posts an event to be handled at the end of the current tick.
+     * If the event is {@link Coalescable}, and a duplicate has already been posted this tick,
+     * it is merged into the duplicate instead of being dispatched separately.
+     * Posted events are dispatched in the order they were first posted.
+     *
+     * @param event Event to post
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void postEvent(@Nonnull Event event) {
+        if (!(event instanceof Coalescable c)) {
+            pendingEvents.add(event);
+            return;
+        }
+
+        final CoalescingKey key = new CoalescingKey(event.getClass(), c.getCoalescingKey());
+        final Integer index = pendingIndexes.get(key);
+
+        if (index == null) {
+            pendingIndexes.put(key, pendingEvents.size());
+            pendingEvents.add(event);
+        } else {
+            final Coalescable queued = (Coalescable) pendingEvents.get(index);
+            pendingEvents.set(index, queued.merge(event));
+        }
+    }
+
+    /**
+     * Dispatches every event posted this tick.
+     * Events posted while flushing are deferred to the next tick.
+     */
+    public void flushEvents() {
+        if (pendingEvents.isEmpty()) return;
+
+        final TList<Event> events = pendingEvents;
+        pendingEvents = new TArray<>();
+        pendingIndexes.clear();
+
+        events.forEach(this::callEvent);
+    }
+
+    /**
+     * Flushes the events posted this tick.
+     *
+     * @param delta Actual delta between the last tick and this one
+     */
+    @Override
+    public void tick(@Nonnull Duration delta) {
+        flushEvents();
+    }
+
+    /**
+     * Posted events are flushed before any other tickable is ticked.
+     *
+     * @return {@link Tickable.Priority#EARLY}
+     */
+    @Nonnull
+    @Override
+    public Tickable.Priority getPriority() {
+        return Tickable.Priority.EARLY;
+    }
+
     /**
      * Registers a listener.
+     * The listener will be called for every event of its type.
      *
      * @param listener Listener to register
      */
     public void registerListener(@Nonnull Listener<?> listener) {
-        listeners.add(listener);
-        listeners.sort(Comparator.comparing(Listener::getPriority));
+        registerListener(listener, ListenerFilter.all());
+    }
+
+    /**
+     * Registers a listener with a filter.
+     * The listener will only be called for events of its type which match given filter.
+     *
+     * @param listener Listener to register
+     * @param filter   Filter to apply
+     */
+    public void registerListener(@Nonnull Listener<?> listener, @Nonnull ListenerFilter filter) {
+        register(RegisteredListener.of(listener, filter, sequence++));
+    }
+
+    /**
+     * Registers every {@link Handler} method of given object.
+     *
+     * @param handlers Object declaring the handler methods
+     * @throws IllegalArgumentException When a handler method has an invalid signature
+     */
+    public void registerHandlers(@Nonnull Object handlers) throws IllegalArgumentException {
+        registerHandlers(handlers, ListenerFilter.all());
+    }
+
+    /**
+     * Registers every {@link Handler} method of given object with a filter.
+     * The handlers will only be called for events of their type which match given filter.
+     *
+     * @param handlers Object declaring the handler methods
+     * @param filter   Filter to apply
+     * @throws IllegalArgumentException When a handler method has an invalid signature
+     */
+    public void registerHandlers(@Nonnull Object handlers, @Nonnull ListenerFilter filter) throws IllegalArgumentException {
+        HandlerCompiler.compile(handlers, filter, sequence++).forEach(this::register);
     }
 
     /**
      * Unregisters a listener.
+     * This removes every registration of the listener, regardless of its filter.
      *
      * @param listener Listener to unregister
      */
     public void unregisterListener(@Nonnull Listener<?> listener) {
-        listeners.remove(listener);
+        unregister(listener);
+    }
+
+    /**
+     * Unregisters every {@link Handler} method of given object.
+     *
+     * @param handlers Object declaring the handler methods
+     */
+    public void unregisterHandlers(@Nonnull Object handlers) {
+        unregister(handlers);
+    }
+
+    /**
+     * Gets the tracer of this event manager.
+     *
+     * @return {@link EventTracer}, {@code null} if tracing is disabled
+     */
+    @Nullable
+    public EventTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Sets the tracer of this event manager.
+     * Setting the tracer to {@code null} disables tracing.
+     *
+     * @param tracer Tracer to use
+     */
+    public void setTracer(@Nullable EventTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Returns whether listener profiling is enabled.
+     *
+     * @return {@code true} if listener invocations are being recorded
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Sets whether to record the invocation count and cumulative time of each listener.
+     * Disabling profiling does not reset the statistics recorded so far.
+     *
+     * @param profiling {@code true} to enable profiling
+     */
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    /**
+     * Gets the recorded statistics of every registered listener.
+     * Listeners with the highest cumulative time come first.
+     *
+     * @return List of {@link ListenerStats}
+     */
+    @Nonnull
+    public TList<ListenerStats> getListenerStats() {
+        final TList<ListenerStats> stats = new TArray<>();
+        forEachRegistered(l -> stats.add(l.getStats()));
+
+        stats.sort(Comparator.comparingLong(ListenerStats::nanos).reversed());
+        return stats;
+    }
+
+    /**
+     * Resets the recorded statistics of every registered listener.
+     */
+    public void resetListenerStats() {
+        forEachRegistered(l -> {
+            l.invocations = 0;
+            l.nanos = 0;
+        });
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Passes an event to given listeners, in order, skipping non-monitor listeners once a short-circuiting event is cancelled
+    private void dispatch(
+            @Nonnull Event event,
+            @Nonnull TList<RegisteredListener> listeners,
+            @Nullable EventTracer tracer,
+            long traceId,
+            int depth
+    ) {
+        final Cancellable cancellable = event instanceof Cancellable c && c.isShortCircuiting() ? c : null;
+        final boolean timed = profiling || tracer != null;
+
+        for (int i = 0; i < listeners.size(); i++) {
+            final RegisteredListener l = listeners.get(i);
+
+            if (cancellable != null && l.priority.compareTo(Listener.Priority.MONITOR) < 0 && cancellable.isCancelled()) {
+                continue;
+            }
+
+            if (!timed) {
+                l.handle(event);
+                continue;
+            }
+
+            final long start = System.nanoTime();
+            l.handle(event);
+            final long elapsed = System.nanoTime() - start;
+
+            if (profiling) l.record(elapsed);
+            if (tracer != null) tracer.record(traceId, depth, event.getClass(), l.name, start, elapsed);
+        }
+    }
+
+    // Passes every registered listener to given consumer
+    private void forEachRegistered(@Nonnull Consumer<RegisteredListener> action) {
+        listeners.forEach(action);
+        worldListeners.values().forEach(list -> list.forEach(action));
+        typeListeners.values().forEach(list -> list.forEach(action));
+        keyListeners.values().forEach(keys -> keys.values().forEach(list -> list.forEach(action)));
+    }
+
+    // Adds a registered listener to the index matching its filter
+    private void register(@Nonnull RegisteredListener entry) {
+        final ListenerFilter filter = entry.filter;
+        dispatchCache.clear();
+
+        if (filter instanceof ListenerFilter.WorldFilter f) {
+            add(worldListeners.getOrDefaultPointer(f.worldId(), new TArray<>()), entry);
+        } else if (filter instanceof ListenerFilter.TypeFilter f) {
+            add(typeListeners.getOrDefaultPointer(f.type(), new TArray<>()), entry);
+        } else if (filter instanceof ListenerFilter.KeyFilter f) {
+            add(keyListeners.getOrDefaultPointer(f.extractor(), new THashMap<>()).getOrDefaultPointer(f.key(), new TArray<>()), entry);
+        } else {
+            add(listeners, entry);
+            return;
+        }
+
+        filteredCount++;
+    }
+
+    // Removes every registration of a listener or handler object
+    private void unregister(@Nonnull Object owner) {
+        dispatchCache.clear();
+        listeners.removeIf(e -> e.owner == owner);
+
+        filteredCount -= remove(worldListeners, owner);
+        filteredCount -= remove(typeListeners, owner);
+
+        final TList<Function<? super Event, ?>> emptyExtractors = new TArray<>();
+        keyListeners.forEach((extractor, keys) -> {
+            filteredCount -= remove(keys, owner);
+            if (keys.isEmpty()) emptyExtractors.add(extractor);
+        });
+
+        emptyExtractors.forEach(keyListeners::remove);
+    }
+
+    // Handles an event while recording its listener timings, returns false if the event is not traced
+    private boolean trace(@Nonnull EventTracer tracer, @Nonnull Event event) {
+        final Event cause = event.getCause();
+        final long traceId = cause == null ? (tracer.sample() ? tracer.nextTraceId() : 0) : cause.traceId;
+        if (traceId == 0) return false;
+
+        event.traceId = traceId;
+
+        int depth = 0;
+        for (Event e = cause; e != null; e = e.getCause()) depth++;
+
+        final long start = System.nanoTime();
+        dispatch(event, getListeners(event), tracer, traceId, depth);
+        tracer.record(traceId, depth, event.getClass(), null, start, System.nanoTime() - start);
+        return true;
+    }
+
+    // Gets the listeners to call for given event, in order of priority
+    @Nonnull
+    private TList<RegisteredListener> getListeners(@Nonnull Event event) {
+        TList<RegisteredListener> result = getUnfilteredListeners(event.getClass());
+        if (filteredCount == 0) return result;
+
+        if (event instanceof WorldEvent e && !worldListeners.isEmpty()) {
+            result = mergeMatches(result, worldListeners.get(e.getWorld().getUniqueId()), event);
+        }
+
+        if (event instanceof ObjectEvent e) {
+            for (Map.Entry<Class<? extends TObject>, TList<RegisteredListener>> entry : typeListeners.entrySet()) {
+                if (e.involves(entry.getKey())) result = mergeMatches(result, entry.getValue(), event);
+            }
+        }
+
+        for (Map.Entry<Function<? super Event, ?>, TMap<Object, TList<RegisteredListener>>> entry : keyListeners.entrySet()) {
+            final Object key = entry.getKey().apply(event);
+            if (key != null) result = mergeMatches(result, entry.getValue().get(key), event);
+        }
+
+        return result;
     }
 
+    // Gets the unfiltered listeners which handle given class of event, cached until the next (un)registration
+    @Nonnull
+    private TList<RegisteredListener> getUnfilteredListeners(@Nonnull Class<? extends Event> eventClass) {
+        final TList<RegisteredListener> cached = dispatchCache.get(eventClass);
+        if (cached != null) return cached;
+
+        final TList<RegisteredListener> result = new TArray<>();
+        for (RegisteredListener l : listeners) {
+            if (l.eventClass.isAssignableFrom(eventClass)) result.add(l);
+        }
+
+        dispatchCache.put(eventClass, result);
+        return result;
+    }
+
+    // Merges the filtered listeners which handle given event into a sorted list in one pass, returns the list itself if none match
+    @Nonnull
+    private static TList<RegisteredListener> mergeMatches(
+            @Nonnull TList<RegisteredListener> sorted,
+            @Nullable TList<RegisteredListener> matches,
+            @Nonnull Event event
+    ) {
+        if (matches == null) return sorted;
+
+        TList<RegisteredListener> result = null;
+        int i = 0;
+
+        for (RegisteredListener l : matches) {
+            if (!l.eventClass.isInstance(event)) continue;
+            if (result == null) result = new TArray<>(sorted.size() + matches.size());
+
+            while (i < sorted.size() && RegisteredListener.ORDER.compare(sorted.get(i), l) < 0) result.add(sorted.get(i++));
+            result.add(l);
+        }
+
+        if (result == null) return sorted;
+        while (i < sorted.size()) result.add(sorted.get(i++));
+
+        return result;
+    }
+
+    // Adds an entry to a list, keeping the list sorted
+    private static void add(@Nonnull TList<RegisteredListener> list, @Nonnull RegisteredListener entry) {
+        list.add(entry);
+        list.sort(RegisteredListener.ORDER);
+    }
+
+    // Removes every entry of a listener or handler object from an index, then returns the number of removed entries
+    private static <K> int remove(@Nonnull TMap<K, TList<RegisteredListener>> index, @Nonnull Object owner) {
+        final TList<K> emptyKeys = new TArray<>();
+        int removed = 0;
+
+        for (Map.Entry<K, TList<RegisteredListener>> entry : index.entrySet()) {
+            final TList<RegisteredListener> list = entry.getValue();
+            final int size = list.size();
+
+            list.removeIf(e -> e.owner == owner);
+            removed += size - list.size();
+
+            if (list.isEmpty()) emptyKeys.add(entry.getKey());
+        }
+
+        emptyKeys.forEach(index::remove);
+        return removed;
+    }
+
+    // Key of a queued coalescable event
+    private record CoalescingKey(@Nonnull Class<?> eventClass, @Nonnull Object key) {}
+
+    @Nonnull
+    private final TList<RegisteredListener> listeners;
+    @Nonnull
+    private final TMap<UUID, TList<RegisteredListener>> worldListeners;
+    @Nonnull
+    private final TMap<Class<? extends TObject>, TList<RegisteredListener>> typeListeners;
+    @Nonnull
+    private final TMap<Function<? super Event, ?>, TMap<Object, TList<RegisteredListener>>> keyListeners;
+    @Nonnull
+    private final TMap<Class<? extends Event>, TList<RegisteredListener>> dispatchCache;
+    @Nonnull
+    private TList<Event> pendingEvents;
     @Nonnull
-    private final TList<Listener<?>> listeners;
+    private final TMap<CoalescingKey, Integer> pendingIndexes;
+    private int filteredCount;
+    private long sequence;
+    private boolean profiling;
+    @Nullable
+    private volatile EventTracer tracer;
 
     public EventManager() {
         this.listeners = new TArray<>();
+        this.worldListeners = new TUuidMap<>();
+        this.typeListeners = new THashMap<>();
+        this.keyListeners = new THashMap<>();
+        this.dispatchCache = new THashMap<>();
+        this.pendingEvents = new TArray<>();
+        this.pendingIndexes = new THashMap<>();
+        this.filteredCount = 0;
+        this.sequence = 0;
+        this.profiling = false;
+        this.tracer = null;
     }
 }
@@ -0,0 +1,138 @@
+package oasis.artemis.event;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.collection.set.THashSet;
+import oasis.artemis.collection.set.TSet;
+import oasis.artemis.listener.EventInvoker;
+import oasis.artemis.listener.Handler;
+import oasis.artemis.listener.ListenerFilter;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+
+/**
+ * <h2>HandlerCompiler</h2>
+ * <p>
+ * Discovers the {@link Handler} methods of an object,
+ * and binds each of them into a direct {@link EventInvoker}.
+ * </p>
+ * <p>
+ * Invokers are spun by {@link LambdaMetafactory}, which gives each handler method its own class.
+ * When the declaring class cannot be accessed with full privileges,
+ * the invoker falls back to an exact {@link MethodHandle} call.
+ * </p>
+ */
+final class HandlerCompiler {
+    private HandlerCompiler() {}
+
+    /**
+     * Compiles the handler methods of given object.
+     * Overridden handler methods are only compiled once, using the most specific declaration.
+     *
+     * @param owner    Object declaring the handler methods
+     * @param filter   Filter to register the handlers with
+     * @param sequence Order of registration
+     * @return List of registered handlers
+     * @throws IllegalArgumentException When a handler method has an invalid signature, or cannot be accessed
+     */
+    @Nonnull
+    static TList<RegisteredListener> compile(@Nonnull Object owner, @Nonnull ListenerFilter filter, long sequence) throws IllegalArgumentException {
+        final TList<RegisteredListener> handlers = new TArray<>();
+        final TSet<String> signatures = new THashSet<>();
+
+        for (Class<?> type = owner.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                final Handler handler = method.getAnnotation(Handler.class);
+                if (handler == null) continue;
+
+                final String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+                if (!signatures.add(signature)) continue;
+
+                final Class<? extends Event> eventClass = getEventClass(method);
+
+                handlers.add(new RegisteredListener(
+                        owner,
+                        eventClass,
+                        handler.priority(),
+                        filter,
+                        bind(owner, method, eventClass),
+                        type.getName() + "#" + method.getName(),
+                        sequence
+                ));
+            }
+        }
+
+        return handlers;
+    }
+
+    // Validates the signature of a handler method and gets the type of event it handles
+    @Nonnull
+    private static Class<? extends Event> getEventClass(@Nonnull Method method) throws IllegalArgumentException {
+        final Class<?>[] parameters = method.getParameterTypes();
+
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getReturnType() != void.class
+                || parameters.length != 1
+                || !Event.class.isAssignableFrom(parameters[0])) {
+            throw new IllegalArgumentException("Invalid handler method: " + method);
+        }
+
+        return parameters[0].asSubclass(Event.class);
+    }
+
+    // Binds a handler method of given object into an invoker
+    @Nonnull
+    private static EventInvoker bind(@Nonnull Object owner, @Nonnull Method method, @Nonnull Class<? extends Event> eventClass) throws IllegalArgumentException {
+        final Class<?> declaringClass = method.getDeclaringClass();
+
+        final MethodHandles.Lookup lookup;
+        final MethodHandle handle;
+
+        try {
+            lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Inaccessible handler method: " + method, e);
+        }
+
+        if (lookup.hasFullPrivilegeAccess()) {
+            try {
+                return (EventInvoker) LambdaMetafactory.metafactory(
+                        lookup,
+                        "invoke",
+                        MethodType.methodType(EventInvoker.class, declaringClass),
+                        MethodType.methodType(void.class, Event.class),
+                        handle,
+                        MethodType.methodType(void.class, eventClass)
+                ).getTarget().invoke(owner);
+            } catch (LambdaConversionException | ReflectiveOperationException | IllegalAccessError ignored) {
+                // Fall back to a method handle
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        }
+
+        final MethodHandle bound = handle.bindTo(owner).asType(MethodType.methodType(void.class, Event.class));
+
+        return event -> {
+            try {
+                bound.invokeExact(event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        };
+    }
+}
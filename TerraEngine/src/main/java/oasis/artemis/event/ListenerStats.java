@@ -0,0 +1,33 @@
+package oasis.artemis.event;
+
+import oasis.artemis.listener.Listener;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>ListenerStats</h2>
+ * <p>
+ * The recorded cost of a registered listener or handler method.
+ * Statistics are only recorded while profiling is enabled in the {@link EventManager}.
+ * </p>
+ *
+ * @param name        Name of the listener
+ * @param priority    Priority of the listener
+ * @param invocations Number of times the listener was called
+ * @param nanos       Cumulative time taken by the listener in nanoseconds
+ */
+public record ListenerStats(
+        @Nonnull String name,
+        @Nonnull Listener.Priority priority,
+        long invocations,
+        long nanos
+) {
+    /**
+     * Gets the average time taken per invocation.
+     *
+     * @return Average time in nanoseconds, {@code 0} if the listener was never called
+     */
+    public double getAverageNanos() {
+        return invocations == 0 ? 0 : (double) nanos / invocations;
+    }
+}
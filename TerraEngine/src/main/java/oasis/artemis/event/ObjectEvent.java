@@ -0,0 +1,39 @@
+package oasis.artemis.event;
+
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.object.TObject;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>ObjectEvent</h2>
+ * <p>
+ * This interface denotes that an event involves one or more objects.
+ * Listeners registered with an object type filter are only called
+ * for events involving at least one object of their type.
+ * </p>
+ */
+public interface ObjectEvent {
+    /**
+     * Gets the objects involved in this event.
+     *
+     * @return List of objects
+     */
+    @Nonnull
+    TList<TObject> getObjects();
+
+    /**
+     * Checks if this event involves at least one object of given type.
+     * Override this when the involved objects are known, in order to avoid building a list.
+     *
+     * @param type Type of object to check
+     * @return {@code true} if at least one involved object is an instance of given type
+     */
+    default boolean involves(@Nonnull Class<? extends TObject> type) {
+        for (TObject object : getObjects()) {
+            if (type.isInstance(object)) return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package oasis.artemis.event;
+
+import oasis.artemis.listener.EventInvoker;
+import oasis.artemis.listener.Listener;
+import oasis.artemis.listener.ListenerFilter;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+
+/**
+ * <h2>RegisteredListener</h2>
+ * <p>
+ * A listener or handler method as registered in the {@link EventManager},
+ * along with the registration-time properties used to index, order and call it.
+ * </p>
+ */
+final class RegisteredListener {
+    /**
+     * Orders listeners by priority, then by order of registration.
+     */
+    static final Comparator<RegisteredListener> ORDER = Comparator
+            .comparing((RegisteredListener l) -> l.priority)
+            .thenComparingLong(l -> l.sequence);
+
+    /**
+     * Creates a registration of a {@link Listener}.
+     *
+     * @param listener Listener
+     * @param filter   Filter of the listener
+     * @param sequence Order of registration
+     * @return Registered listener
+     */
+    @Nonnull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static RegisteredListener of(@Nonnull Listener<?> listener, @Nonnull ListenerFilter filter, long sequence) {
+        final Listener raw = listener;
+        return new RegisteredListener(
+                listener,
+                listener.getEventClass(),
+                listener.getPriority(),
+                filter,
+                raw::handle,
+                listener.getClass().getName(),
+                sequence
+        );
+    }
+
+    RegisteredListener(
+            @Nonnull Object owner,
+            @Nonnull Class<? extends Event> eventClass,
+            @Nonnull Listener.Priority priority,
+            @Nonnull ListenerFilter filter,
+            @Nonnull EventInvoker invoker,
+            @Nonnull String name,
+            long sequence
+    ) {
+        this.owner = owner;
+        this.eventClass = eventClass;
+        this.priority = priority;
+        this.filter = filter;
+        this.invoker = invoker;
+        this.name = name;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Passes given event to the listener.
+     * The caller must make sure the event is an instance of {@link RegisteredListener#eventClass}.
+     *
+     * @param event Event to handle
+     */
+    void handle(@Nonnull Event event) {
+        invoker.invoke(event);
+    }
+
+    /**
+     * Records a single invocation of this listener.
+     *
+     * @param nanos Time taken in nanoseconds
+     */
+    void record(long nanos) {
+        invocations++;
+        this.nanos += nanos;
+    }
+
+    /**
+     * Gets the recorded statistics of this listener.
+     *
+     * @return {@link ListenerStats}
+     */
+    @Nonnull
+    ListenerStats getStats() {
+        return new ListenerStats(name, priority, invocations, nanos);
+    }
+
+    /**
+     * The listener, or the object declaring the handler method.
+     */
+    @Nonnull
+    final Object owner;
+    @Nonnull
+    final Class<? extends Event> eventClass;
+    @Nonnull
+    final Listener.Priority priority;
+    @Nonnull
+    final ListenerFilter filter;
+    @Nonnull
+    final EventInvoker invoker;
+    @Nonnull
+    final String name;
+    final long sequence;
+    long invocations;
+    long nanos;
+}
@@ -0,0 +1,22 @@
+package oasis.artemis.event;
+
+import oasis.artemis.world.World;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>WorldEvent</h2>
+ * <p>
+ * This interface denotes that an event happens within a single {@link World}.
+ * Listeners registered with a world filter are only called for events of their world.
+ * </p>
+ */
+public interface WorldEvent {
+    /**
+     * Gets the world this event happened in.
+     *
+     * @return {@link World}
+     */
+    @Nonnull
+    World getWorld();
+}
@@ -1,9 +1,14 @@
 package oasis.artemis.event.physics;
 
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
 import oasis.artemis.event.Cancellable;
 import oasis.artemis.event.Event;
+import oasis.artemis.event.ObjectEvent;
+import oasis.artemis.event.WorldEvent;
 import oasis.artemis.object.TObject;
 import oasis.artemis.util.ObjectPair;
+import oasis.artemis.world.World;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -12,7 +17,7 @@ import javax.annotation.Nullable;
  * <h2>CollisionEvent</h2>
  * <p>Called when two objects which obey physics collide.</p>
  */
-public final class CollisionEvent extends Event implements Cancellable {
+public final class CollisionEvent extends Event implements Cancellable, WorldEvent, ObjectEvent {
     /**
      * Creates a new collision event.
      *
@@ -87,6 +92,29 @@ public final class CollisionEvent extends Event implements Cancellable {
         return pair;
     }
 
+    /**
+     * Gets the world this collision happened in.
+     * Collisions only occur between objects of the same world.
+     *
+     * @return {@link World}
+     */
+    @Nonnull
+    @Override
+    public World getWorld() {
+        return pair.object1().getWorld();
+    }
+
+    @Nonnull
+    @Override
+    public TList<TObject> getObjects() {
+        return new TArray<>(pair.object1(), pair.object2());
+    }
+
+    @Override
+    public boolean involves(@Nonnull Class<? extends TObject> type) {
+        return type.isInstance(pair.object1()) || type.isInstance(pair.object2());
+    }
+
     @Override
     public boolean isCancelled() {
         return cancelled;
@@ -97,6 +125,11 @@ public final class CollisionEvent extends Event implements Cancellable {
         this.cancelled = cancelled;
     }
 
+    @Override
+    public boolean isShortCircuiting() {
+        return true;
+    }
+
     @Nonnull
     private final ObjectPair pair;
     private boolean cancelled;
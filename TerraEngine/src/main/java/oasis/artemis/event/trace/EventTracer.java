@@ -0,0 +1,278 @@
+package oasis.artemis.event.trace;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.map.THashMap;
+import oasis.artemis.map.TMap;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h2>EventTracer</h2>
+ * <p>
+ * Records the causal chains of a sample of events.
+ * A chain starts at a root event (an event without a cause),
+ * and contains every event called with a traced event as its cause.
+ * </p>
+ * <p>
+ * Every listener invocation of a traced chain is written to a fixed-size ring buffer.
+ * Writing never blocks nor allocates; when the buffer is full, the oldest records are overwritten.
+ * The buffer can be dumped as JSON, or as JFR events, at any time and from any thread.
+ * </p>
+ * <p>
+ * Tracing is disabled by not setting a tracer on the event manager.
+ * </p>
+ */
+public final class EventTracer {
+    /**
+     * Creates a new tracer.
+     *
+     * @param samplePercent Percentage of root events to trace (0 to 100)
+     * @param capacity      Number of records to keep (rounded up to a power of two)
+     * @throws IllegalArgumentException When the percentage is out of range, or the capacity is not positive
+     */
+    public EventTracer(double samplePercent, @Nonnegative int capacity) throws IllegalArgumentException {
+        if (samplePercent < 0 || samplePercent > 100 || capacity <= 0) throw new IllegalArgumentException();
+
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.samplePercent = samplePercent;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.traceIds = new long[size];
+        this.depths = new int[size];
+        this.eventTypes = new Class<?>[size];
+        this.listeners = new String[size];
+        this.starts = new long[size];
+        this.durations = new long[size];
+        this.cursor = new AtomicLong();
+        this.lastTraceId = new AtomicLong();
+
+        for (int i = 0; i < size; i++) sequences.set(i, EMPTY);
+    }
+
+    /**
+     * Gets the percentage of root events which are traced.
+     *
+     * @return Sample percentage
+     */
+    public double getSamplePercent() {
+        return samplePercent;
+    }
+
+    /**
+     * Decides whether a new root event should be traced.
+     *
+     * @return {@code true} if the root event should be traced
+     */
+    public boolean sample() {
+        return samplePercent > 0 && ThreadLocalRandom.current().nextDouble() * 100 < samplePercent;
+    }
+
+    /**
+     * Gets a new unique trace ID. Trace IDs are always positive.
+     *
+     * @return Trace ID
+     */
+    public long nextTraceId() {
+        return lastTraceId.incrementAndGet();
+    }
+
+    /**
+     * Records a listener invocation.
+     *
+     * @param traceId   Trace ID of the chain
+     * @param depth     Depth of the event within the chain (0 for the root event)
+     * @param eventType Class of the event
+     * @param listener  Name of the listener, or {@code null} for the dispatch of the event as a whole
+     * @param start     Start of the invocation, in {@link System#nanoTime()}
+     * @param duration  Duration of the invocation in nanoseconds
+     */
+    public void record(long traceId, int depth, @Nonnull Class<?> eventType, @Nullable String listener, long start, long duration) {
+        final long sequence = cursor.getAndIncrement();
+        final int index = (int) (sequence & mask);
+
+        sequences.set(index, WRITING);
+        // A volatile write only orders earlier accesses; the payload stores below must not float above it
+        VarHandle.storeStoreFence();
+
+        traceIds[index] = traceId;
+        depths[index] = depth;
+        eventTypes[index] = eventType;
+        listeners[index] = listener;
+        starts[index] = start;
+        durations[index] = duration;
+
+        sequences.set(index, sequence);
+    }
+
+    /**
+     * Clears every record.
+     */
+    public void clear() {
+        for (int i = 0; i <= mask; i++) sequences.set(i, EMPTY);
+    }
+
+    /**
+     * Gets a consistent copy of the records currently in the buffer, oldest first.
+     * Records being written during the copy are skipped.
+     *
+     * @return List of records
+     */
+    @Nonnull
+    public TList<Record> getRecords() {
+        final TList<Record> records = new TArray<>(mask + 1);
+
+        for (int i = 0; i <= mask; i++) {
+            final long before = sequences.get(i);
+            if (before < 0) continue;
+
+            final Record record = new Record(before, traceIds[i], depths[i], eventTypes[i], listeners[i], starts[i], durations[i]);
+
+            VarHandle.acquireFence();
+            if (sequences.get(i) == before) records.add(record);
+        }
+
+        records.sort((r1, r2) -> Long.compare(r1.sequence(), r2.sequence()));
+        return records;
+    }
+
+    /**
+     * Writes the records currently in the buffer as JSON, grouped by chain.
+     * Chains are listed in order of their first record.
+     *
+     * @param out Output to write to
+     * @throws UncheckedIOException When the output cannot be written to
+     */
+    public void dumpJson(@Nonnull Appendable out) throws UncheckedIOException {
+        final TMap<Long, TList<Record>> chains = new THashMap<>();
+        final TList<Long> order = new TArray<>();
+
+        getRecords().forEach(r -> {
+            if (!chains.containsKey(r.traceId())) order.add(r.traceId());
+            chains.getOrDefaultPointer(r.traceId(), new TArray<>()).add(r);
+        });
+
+        try {
+            out.append("{\"samplePercent\":").append(Double.toString(samplePercent)).append(",\"traces\":[");
+
+            for (int i = 0; i < order.size(); i++) {
+                final TList<Record> records = chains.get(order.get(i));
+
+                if (i > 0) out.append(',');
+                out.append("{\"id\":").append(Long.toString(order.get(i)))
+                        .append(",\"invocations\":").append(Integer.toString(records.size()))
+                        .append(",\"records\":[");
+
+                for (int j = 0; j < records.size(); j++) {
+                    final Record r = records.get(j);
+
+                    if (j > 0) out.append(',');
+                    out.append("{\"depth\":").append(Integer.toString(r.depth()))
+                            .append(",\"event\":\"").append(escape(r.eventType().getName()))
+                            .append("\",\"listener\":").append(r.listener() == null ? "null" : "\"" + escape(r.listener()) + "\"")
+                            .append(",\"startNanos\":").append(Long.toString(r.start()))
+                            .append(",\"durationNanos\":").append(Long.toString(r.duration()))
+                            .append('}');
+                }
+
+                out.append("]}");
+            }
+
+            out.append("]}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the records currently in the buffer as JSON.
+     *
+     * @return JSON string
+     * @see EventTracer#dumpJson(Appendable)
+     */
+    @Nonnull
+    public String toJson() {
+        final StringBuilder builder = new StringBuilder();
+        dumpJson(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Commits the records currently in the buffer as {@link ListenerInvocationEvent}s.
+     * Nothing is committed unless a JFR recording with the event enabled is running.
+     */
+    public void dumpJfr() {
+        getRecords().forEach(r -> {
+            final ListenerInvocationEvent event = new ListenerInvocationEvent();
+            if (!event.shouldCommit()) return;
+
+            event.traceId = r.traceId();
+            event.depth = r.depth();
+            event.eventType = r.eventType();
+            event.listener = r.listener();
+            event.startNanos = r.start();
+            event.elapsed = r.duration();
+            event.commit();
+        });
+    }
+
+    // Escapes a string to be used as a JSON string literal
+    @Nonnull
+    private static String escape(@Nonnull String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * A single recorded listener invocation.
+     *
+     * @param sequence  Sequence number of this record
+     * @param traceId   Trace ID of the chain
+     * @param depth     Depth of the event within the chain
+     * @param eventType Class of the event
+     * @param listener  Name of the listener, {@code null} for the dispatch of the event as a whole
+     * @param start     Start of the invocation, in {@link System#nanoTime()}
+     * @param duration  Duration of the invocation in nanoseconds
+     */
+    public record Record(
+            long sequence,
+            long traceId,
+            int depth,
+            @Nonnull Class<?> eventType,
+            @Nullable String listener,
+            long start,
+            long duration
+    ) {}
+
+    private static final long EMPTY = -1;
+    private static final long WRITING = -2;
+
+    private final double samplePercent;
+    private final int mask;
+    @Nonnull
+    private final AtomicLongArray sequences;
+    @Nonnull
+    private final long[] traceIds;
+    @Nonnull
+    private final int[] depths;
+    @Nonnull
+    private final Class<?>[] eventTypes;
+    @Nonnull
+    private final String[] listeners;
+    @Nonnull
+    private final long[] starts;
+    @Nonnull
+    private final long[] durations;
+    @Nonnull
+    private final AtomicLong cursor;
+    @Nonnull
+    private final AtomicLong lastTraceId;
+}
@@ -0,0 +1,42 @@
+package oasis.artemis.event.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * <h2>ListenerInvocationEvent</h2>
+ * <p>
+ * The JFR representation of an {@link EventTracer.Record}.
+ * These are only committed when {@link EventTracer#dumpJfr()} is called.
+ * </p>
+ */
+@Name("oasis.artemis.ListenerInvocation")
+@Label("Listener Invocation")
+@Description("A listener invocation of a traced event chain")
+@Category({"Terra", "Events"})
+@StackTrace(false)
+final class ListenerInvocationEvent extends jdk.jfr.Event {
+    @Label("Trace ID")
+    long traceId;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Event Type")
+    Class<?> eventType;
+
+    @Label("Listener")
+    String listener;
+
+    @Label("Start")
+    @Description("Value of System.nanoTime() when the invocation started")
+    long startNanos;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,24 @@
+package oasis.artemis.listener;
+
+import oasis.artemis.event.Event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>EventInvoker</h2>
+ * <p>
+ * A compiled call to a single event handler.
+ * The event manager creates one invoker per registered listener or {@link Handler} method.
+ * There is no need to implement this.
+ * </p>
+ */
+@FunctionalInterface
+public interface EventInvoker {
+    /**
+     * Passes an event to the handler.
+     * The event is guaranteed to be of the type handled by the handler.
+     *
+     * @param event Event to handle
+     */
+    void invoke(@Nonnull Event event);
+}
@@ -0,0 +1,37 @@
+package oasis.artemis.listener;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <h2>Handler</h2>
+ * <p>
+ * Marks a method as an event handler.
+ * This allows a single object to handle multiple types of events,
+ * as opposed to implementing one {@link Listener} per type of event.
+ * </p>
+ * <p>
+ * Handler methods must be non-static, return {@code void},
+ * and have a single parameter of the type of event they handle.
+ * They can have any access modifier.
+ * </p>
+ * <p>
+ * Objects with handler methods are registered via
+ * {@code EventManager#registerHandlers(Object)}.
+ * Handler methods are discovered and compiled once at registration.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Handler {
+    /**
+     * Gets the priority of this handler.
+     *
+     * @return {@link Listener.Priority}
+     */
+    Listener.Priority priority() default Listener.Priority.NORMAL;
+}
@@ -0,0 +1,147 @@
+package oasis.artemis.listener;
+
+import oasis.artemis.event.Event;
+import oasis.artemis.event.ObjectEvent;
+import oasis.artemis.event.WorldEvent;
+import oasis.artemis.object.TObject;
+import oasis.artemis.world.World;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * <h2>ListenerFilter</h2>
+ * <p>
+ * A predicate given to the event manager when registering a {@link Listener}.
+ * Filtered listeners are indexed by their filter,
+ * and are never called for events which do not match it.
+ * </p>
+ * <p>
+ * A filter can only match events which expose the filtered property.
+ * For example, a world filter never matches an event which is not a {@link WorldEvent}.
+ * </p>
+ */
+public sealed interface ListenerFilter permits ListenerFilter.All, ListenerFilter.WorldFilter, ListenerFilter.TypeFilter, ListenerFilter.KeyFilter {
+    /**
+     * Gets a filter which matches every event.
+     * Listeners registered without a filter use this.
+     *
+     * @return Filter matching every event
+     */
+    @Nonnull
+    static ListenerFilter all() {
+        return All.INSTANCE;
+    }
+
+    /**
+     * Gets a filter which matches {@link WorldEvent}s of given world.
+     *
+     * @param worldId Unique ID of the world
+     * @return World filter
+     */
+    @Nonnull
+    static ListenerFilter world(@Nonnull UUID worldId) {
+        return new WorldFilter(worldId);
+    }
+
+    /**
+     * Gets a filter which matches {@link WorldEvent}s of given world.
+     *
+     * @param world World
+     * @return World filter
+     */
+    @Nonnull
+    static ListenerFilter world(@Nonnull World world) {
+        return new WorldFilter(world.getUniqueId());
+    }
+
+    /**
+     * Gets a filter which matches {@link ObjectEvent}s involving at least one object of given type.
+     *
+     * @param type Type of object
+     * @return Object type filter
+     */
+    @Nonnull
+    static ListenerFilter objectType(@Nonnull Class<? extends TObject> type) {
+        return new TypeFilter(type);
+    }
+
+    /**
+     * Gets a filter which matches events whose extracted key equals given key.
+     * <p>
+     * Listeners are indexed per extractor instance.
+     * Reuse the same extractor (e.g. a {@code static final} field) for every listener
+     * filtering by the same property, so that the key is extracted only once per event.
+     * An extractor returning {@code null} matches no listener.
+     * </p>
+     *
+     * @param extractor Function extracting the key of an event
+     * @param key       Key to match
+     * @return Key filter
+     */
+    @Nonnull
+    static ListenerFilter key(@Nonnull Function<? super Event, ?> extractor, @Nonnull Object key) {
+        return new KeyFilter(extractor, key);
+    }
+
+    /**
+     * Checks if given event matches this filter.
+     * The event manager uses its indexes instead of calling this on every event.
+     *
+     * @param event Event to check
+     * @return {@code true} if the event matches this filter
+     */
+    boolean matches(@Nonnull Event event);
+
+    /**
+     * Matches every event.
+     */
+    final class All implements ListenerFilter {
+        private static final All INSTANCE = new All();
+
+        private All() {}
+
+        @Override
+        public boolean matches(@Nonnull Event event) {
+            return true;
+        }
+    }
+
+    /**
+     * Matches {@link WorldEvent}s of a single world.
+     *
+     * @param worldId Unique ID of the world
+     */
+    record WorldFilter(@Nonnull UUID worldId) implements ListenerFilter {
+        @Override
+        public boolean matches(@Nonnull Event event) {
+            return event instanceof WorldEvent e && worldId.equals(e.getWorld().getUniqueId());
+        }
+    }
+
+    /**
+     * Matches {@link ObjectEvent}s involving at least one object of a type.
+     *
+     * @param type Type of object
+     */
+    record TypeFilter(@Nonnull Class<? extends TObject> type) implements ListenerFilter {
+        @Override
+        public boolean matches(@Nonnull Event event) {
+            return event instanceof ObjectEvent e && e.involves(type);
+        }
+    }
+
+    /**
+     * Matches events whose extracted key equals a given key.
+     *
+     * @param extractor Function extracting the key of an event
+     * @param key       Key to match
+     */
+    record KeyFilter(@Nonnull Function<? super Event, ?> extractor, @Nonnull Object key) implements ListenerFilter {
+        @Override
+        public boolean matches(@Nonnull Event event) {
+            return key.equals(extractor.apply(event));
+        }
+    }
+}
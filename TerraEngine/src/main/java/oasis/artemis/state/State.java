@@ -1,6 +1,6 @@
 package oasis.artemis.state;
 
-import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TCopyOnWriteArray;
 import oasis.artemis.collection.list.TList;
 import oasis.artemis.util.Tickable;
 import oasis.artemis.world.World;
@@ -14,11 +14,12 @@ import javax.annotation.Nonnull;
  */
 public class State implements Tickable {
     public State() {
-        this.worlds = new TArray<>();
+        this.worlds = new TCopyOnWriteArray<>();
     }
 
     /**
      * Gets a list of all worlds present in this state.
+     * The list is copy-on-write, and can be read or iterated from any thread without locking.
      *
      * @return List of worlds
      */
@@ -1,48 +1,76 @@
 package oasis.artemis.task.physics;
 
 import oasis.artemis.TerraEngine;
-import oasis.artemis.collection.list.TArray;
 import oasis.artemis.collection.list.TList;
+import oasis.artemis.collection.primitive.TLongHashSet;
+import oasis.artemis.collection.primitive.TLongSet;
 import oasis.artemis.event.physics.CollisionEvent;
+import oasis.artemis.map.TUuidMap;
+import oasis.artemis.object.ImmovableObject;
 import oasis.artemis.object.TObject;
+import oasis.artemis.physics.AabbTree;
 import oasis.artemis.task.Task;
 import oasis.artemis.util.ObjectPair;
 import org.joda.time.Duration;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * <h2>CollisionTask</h2>
  * <p>
  * Handles collision between objects.
+ * Overlapping pairs are tracked by the packed handles of their objects,
+ * and a {@link CollisionEvent} is called once when a pair starts overlapping,
+ * so listeners respond within the same physics step.
+ * Dynamic objects are tested against each other, and against the static index of their world.
+ * Pairs of immovable objects are never tested.
  * </p>
  */
 public final class CollisionTask implements Task {
     @Override
     public void execute(@Nonnull Duration delta) {
+        final TUuidMap<TLongSet> current = new TUuidMap<>();
+
         TerraEngine.getState().getWorlds().forEach(world -> {
-            // Loop through every object which obeys physics
-            world.getObjects().filter(TObject::obeysPhysics).forEach(o1 -> {
-                // Loop thorough every other object which obeys physics
-                world.getObjects().filter(TObject::obeysPhysics).filter(o -> !o.equals(o1)).forEach(o2 -> {
-                    final ObjectPair pair = new ObjectPair(o1, o2);
+            final TList<TObject> objects = world.getDynamicObjects().lazy().filter(TObject::obeysPhysics).list();
+            final AabbTree<ImmovableObject> immovables = world.getStaticIndex();
+            final TLongSet previous = collisions.get(world.getUniqueId());
+            final TLongSet overlapping = new TLongHashSet();
+
+            // Loop through every unordered pair of dynamic objects which obey physics
+            for (int i = 0; i < objects.size(); i++) {
+                final TObject o1 = objects.get(i);
+
+                for (int j = i + 1; j < objects.size(); j++) {
+                    final TObject o2 = objects.get(j);
                     // If objects overlap
-                    if (o1.overlaps(o2)) {
-                        if (!collisions.contains(pair)) {
-                            // Call collision event
-                            TerraEngine.getEventManager().callEvent(new CollisionEvent(o1, o2));
-                            collisions.add(pair);
-                        }
-                    } else {
-                        collisions.remove(pair);
-                    }
+                    if (o1.overlaps(o2)) collide(o1, o2, previous, overlapping);
+                }
+
+                // Only immovable objects near this object are tested, and never against each other
+                immovables.forEachOverlapping(o1.getAabb(), immovable -> {
+                    if (immovable.obeysPhysics()) collide(o1, immovable, previous, overlapping);
                 });
-            });
+            }
+
+            current.put(world.getUniqueId(), overlapping);
         });
+
+        // Pairs which no longer overlap, and worlds which no longer exist, are dropped
+        collisions = current;
     }
 
-    @Nonnull
-    private final TList<ObjectPair> collisions = new TArray<>();
+    // Records an overlapping pair, and calls an event if it was not overlapping in the previous execution (if any)
+    private void collide(@Nonnull TObject o1, @Nonnull TObject o2, @Nullable TLongSet previous, @Nonnull TLongSet overlapping) {
+        final long key = ObjectPair.key(o1.getHandle(), o2.getHandle());
+        overlapping.add(key);
+
+        if (previous == null || !previous.contains(key)) {
+            // Call collision event
+            TerraEngine.getEventManager().callEvent(new CollisionEvent(o1, o2));
+        }
+    }
 
     @Nonnull
     @Override
@@ -55,4 +83,7 @@ public final class CollisionTask implements Task {
     public Duration getInterval() {
         return Duration.ZERO;
     }
+
+    @Nonnull
+    private TUuidMap<TLongSet> collisions = new TUuidMap<>();
 }
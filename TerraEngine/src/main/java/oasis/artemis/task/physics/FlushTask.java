@@ -0,0 +1,35 @@
+package oasis.artemis.task.physics;
+
+import oasis.artemis.TerraEngine;
+import oasis.artemis.task.Task;
+import oasis.artemis.world.CommandBuffer;
+import org.joda.time.Duration;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>FlushTask</h2>
+ * <p>
+ * Applies the {@link CommandBuffer} of every world at the start of a physics step.
+ * This must be registered before every other physics task,
+ * so that no object is added or removed while physics iterates the objects of a world.
+ * </p>
+ */
+public final class FlushTask implements Task {
+    @Override
+    public void execute(@Nonnull Duration delta) {
+        TerraEngine.getState().getWorlds().forEach(world -> world.getCommandBuffer().flush(world));
+    }
+
+    @Nonnull
+    @Override
+    public Duration getDelay() {
+        return Duration.ZERO;
+    }
+
+    @Nonnull
+    @Override
+    public Duration getInterval() {
+        return Duration.ZERO;
+    }
+}
@@ -1,41 +1,76 @@
 package oasis.artemis.task.physics;
 
 import oasis.artemis.TerraEngine;
+import oasis.artemis.collection.set.TSet;
 import oasis.artemis.object.ImmovableObject;
 import oasis.artemis.object.TObject;
+import oasis.artemis.physics.Aabb;
+import oasis.artemis.physics.AabbTree;
 import oasis.artemis.physics.Physics;
+import oasis.artemis.physics.kernel.PhysicsKernel;
 import oasis.artemis.task.Task;
+import oasis.artemis.world.World;
 import org.joda.time.Duration;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <h2>GravityTask</h2>
  * <p>
  * Handles gravity.
+ * Whether an object stands on an immovable object is answered by the static index of its world.
+ * The falling objects of each world are processed in one batch:
+ * their Y velocities are gathered into reusable arrays,
+ * processed by the default {@link PhysicsKernel}, then written back.
  * </p>
  */
 public final class GravityTask implements Task {
     @Override
     public void execute(@Nonnull Duration delta) {
-        TerraEngine.getState().getWorlds().forEach(world -> {
-            world.getObjects().filter(TObject::obeysPhysics).forEach(object -> {
-                AtomicBoolean isOnImmovable = new AtomicBoolean(false);
-
-                world.getObjects().filter(ImmovableObject.class).forEach(immovable -> {
-                    if (Physics.isStandingOn(object, immovable)) {
-                        isOnImmovable.set(true);
-                    }
-                });
-
-                if (!isOnImmovable.get()) {
-                    final double gravity = Physics.gravity(world, delta);
-                    object.setVector(object.getVector().plusY(-gravity));
-                }
-            });
-        });
+        TerraEngine.getState().getWorlds().forEach(world -> fall(world, Physics.gravity(world, delta)));
+    }
+
+    // Applies gravity to every falling object of a world
+    private void fall(@Nonnull World world, double gravity) {
+        final AabbTree<ImmovableObject> immovables = world.getStaticIndex();
+
+        // Immovable objects never fall, so only dynamic objects are gathered
+        final TSet<TObject> snapshot = world.getDynamicObjects();
+        ensureCapacity(snapshot.size());
+
+        int count = 0;
+        for (TObject object : snapshot) {
+            if (!object.obeysPhysics()) continue;
+
+            // Standing on a box implies standing on every box which contains it, so whole nodes can be skipped
+            final Aabb aabb = object.getAabb();
+            if (immovables.anyMatching(bounds -> Physics.isStandingOn(aabb, bounds), immovable -> true)) continue;
+
+            objects[count] = object;
+            vy[count] = object.getVector().y();
+            count++;
+        }
+
+        kernel.applyGravity(vy, gravity, count);
+
+        // Write back the new velocities
+        for (int i = 0; i < count; i++) {
+            final TObject object = objects[i];
+            objects[i] = null;
 
+            object.setVector(object.getVector().setY(vy[i]));
+        }
+    }
+
+    // Grows the arrays to hold at least given number of objects
+    private void ensureCapacity(@Nonnegative int count) {
+        if (objects.length >= count) return;
+
+        final int capacity = Math.max(count, objects.length * 2);
+
+        objects = new TObject[capacity];
+        vy = new double[capacity];
     }
 
     @Nonnull
@@ -49,4 +84,11 @@ public final class GravityTask implements Task {
     public Duration getInterval() {
         return Duration.ZERO;
     }
+
+    @Nonnull
+    private final PhysicsKernel kernel = PhysicsKernel.getDefault();
+    @Nonnull
+    private TObject[] objects = new TObject[0];
+    @Nonnull
+    private double[] vy = new double[0];
 }
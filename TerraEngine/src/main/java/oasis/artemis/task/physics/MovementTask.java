@@ -1,51 +1,95 @@
 package oasis.artemis.task.physics;
 
 import oasis.artemis.TerraEngine;
+import oasis.artemis.collection.set.TSet;
+import oasis.artemis.object.TObject;
+import oasis.artemis.physics.Location;
+import oasis.artemis.physics.MutableLocation;
 import oasis.artemis.physics.Physics;
 import oasis.artemis.physics.Vector;
+import oasis.artemis.physics.kernel.PhysicsKernel;
 import oasis.artemis.task.Task;
+import oasis.artemis.world.World;
 import org.joda.time.Duration;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 
 /**
  * <h2>MovementTask</h2>
  * <p>
  * Handles the movement of objects.
+ * The objects of each world are moved in one batch:
+ * their positions and velocities are gathered into reusable arrays,
+ * processed by the default {@link PhysicsKernel}, then written back.
+ * The only allocation per object is its new location.
  * </p>
  */
 public final class MovementTask implements Task {
     @Override
     public void execute(@Nonnull Duration delta) {
-        TerraEngine.getState().getWorlds().forEach(world -> {
-            world.getObjects().forEach(object -> {
-                Vector acceleration = object.getVector().modifyAll(0.001).modifyAll(delta.getMillis());
-
-                // X terminal velocity
-                final double xVelocity = Math.abs(acceleration.x());
-                final double terminalX = Physics.terminalVelocity(object, Vector.FRONT);
-                if (xVelocity > terminalX) {
-                    acceleration = acceleration.setX(xVelocity > 0 ? terminalX : -terminalX);
-                }
-
-                // Y terminal velocity
-                final double yVelocity = Math.abs(acceleration.y());
-                final double terminalY = Physics.terminalVelocity(object, Vector.UP);
-                if (yVelocity > terminalY) {
-                    acceleration = acceleration.setY(yVelocity > 0 ? terminalY : -terminalY);
-                }
-
-                // Z terminal velocity
-                final double zVelocity = Math.abs(acceleration.z());
-                final double terminalZ = Physics.terminalVelocity(object, Vector.RIGHT);
-                if (zVelocity > terminalZ) {
-                    acceleration = acceleration.setZ(zVelocity > 0 ? terminalZ : -terminalZ);
-                }
-
-                object.setLocation(object.getLocation().plusVector(acceleration));
-            });
-        });
+        final double scale = 0.001 * delta.getMillis();
+        TerraEngine.getState().getWorlds().forEach(world -> move(world, scale));
+    }
+
+    // Moves every object of a world
+    private void move(@Nonnull World world, double scale) {
+        // Immovable objects never move, so only dynamic objects are gathered
+        final TSet<TObject> snapshot = world.getDynamicObjects();
+        final int count = snapshot.size();
+        ensureCapacity(count);
+
+        // Gather positions, velocities and terminal velocities
+        int i = 0;
+        for (TObject object : snapshot) {
+            final Location location = object.getLocation();
+            final Vector vector = object.getVector();
+            final double fluidDensity = Physics.fluidDensity(object);
+
+            objects[i] = object;
+            px[i] = location.x();
+            py[i] = location.y();
+            pz[i] = location.z();
+            vx[i] = vector.x();
+            vy[i] = vector.y();
+            vz[i] = vector.z();
+            limitX[i] = Physics.terminalVelocity(object, Vector.FRONT, fluidDensity);
+            limitY[i] = Physics.terminalVelocity(object, Vector.UP, fluidDensity);
+            limitZ[i] = Physics.terminalVelocity(object, Vector.RIGHT, fluidDensity);
+            i++;
+        }
+
+        // Clamp to terminal velocity, keeping the direction of each axis
+        kernel.scale(vx, vy, vz, scale, count);
+        kernel.clamp(vx, vy, vz, limitX, limitY, limitZ, count);
+        kernel.integrate(px, py, pz, vx, vy, vz, 1, count);
+
+        // Write back the objects which moved
+        for (i = 0; i < count; i++) {
+            final TObject object = objects[i];
+            objects[i] = null;
 
+            if (vx[i] == 0 && vy[i] == 0 && vz[i] == 0) continue;
+            object.setLocation(scratch.set(object.getLocation()).set(px[i], py[i], pz[i]).toLocation());
+        }
+    }
+
+    // Grows the arrays to hold at least given number of objects
+    private void ensureCapacity(@Nonnegative int count) {
+        if (objects.length >= count) return;
+
+        final int capacity = Math.max(count, objects.length * 2);
+
+        objects = new TObject[capacity];
+        px = new double[capacity];
+        py = new double[capacity];
+        pz = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        vz = new double[capacity];
+        limitX = new double[capacity];
+        limitY = new double[capacity];
+        limitZ = new double[capacity];
     }
 
     @Nonnull
@@ -59,4 +103,29 @@ public final class MovementTask implements Task {
     public Duration getInterval() {
         return Duration.ZERO;
     }
+
+    @Nonnull
+    private final PhysicsKernel kernel = PhysicsKernel.getDefault();
+    @Nonnull
+    private final MutableLocation scratch = new MutableLocation();
+    @Nonnull
+    private TObject[] objects = new TObject[0];
+    @Nonnull
+    private double[] px = new double[0];
+    @Nonnull
+    private double[] py = new double[0];
+    @Nonnull
+    private double[] pz = new double[0];
+    @Nonnull
+    private double[] vx = new double[0];
+    @Nonnull
+    private double[] vy = new double[0];
+    @Nonnull
+    private double[] vz = new double[0];
+    @Nonnull
+    private double[] limitX = new double[0];
+    @Nonnull
+    private double[] limitY = new double[0];
+    @Nonnull
+    private double[] limitZ = new double[0];
 }
@@ -0,0 +1,39 @@
+package oasis.artemis.task.physics;
+
+import oasis.artemis.TerraEngine;
+import oasis.artemis.task.Task;
+import oasis.artemis.world.WorldStateBuffer;
+import org.joda.time.Duration;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>PublishTask</h2>
+ * <p>
+ * Publishes the state of every world at the end of a physics step.
+ * This must be registered after every other physics task,
+ * so that readers of {@link WorldStateBuffer} only ever see completed steps.
+ * </p>
+ */
+public final class PublishTask implements Task {
+    @Override
+    public void execute(@Nonnull Duration delta) {
+        TerraEngine.getState().getWorlds().forEach(world -> {
+            // Read the version first, so the published version is never newer than the objects
+            final long version = world.getObjectsVersion();
+            world.getStateBuffer().publish(world.getObjects(), version);
+        });
+    }
+
+    @Nonnull
+    @Override
+    public Duration getDelay() {
+        return Duration.ZERO;
+    }
+
+    @Nonnull
+    @Override
+    public Duration getInterval() {
+        return Duration.ZERO;
+    }
+}
@@ -1,13 +1,20 @@
 package oasis.artemis.task.physics;
 
 import oasis.artemis.TerraEngine;
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.TParallel;
 import oasis.artemis.collection.set.TSet;
 import oasis.artemis.object.TObject;
 import oasis.artemis.physics.Physics;
+import oasis.artemis.physics.Vector;
+import oasis.artemis.physics.kernel.PhysicsKernel;
 import oasis.artemis.task.Task;
+import oasis.artemis.world.World;
 import org.joda.time.Duration;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.stream.IntStream;
 
 /**
  * <h2>ResistanceTask</h2>
@@ -17,42 +24,98 @@ import javax.annotation.Nonnull;
  * If the object is in multiple fluids,
  * the fluid with the highest density is used.
  * </p>
+ * <p>
+ * The deceleration ratio of each object only depends on its own state, so large worlds compute them in parallel.
+ * The ratios are then applied to every velocity in one batch by the default {@link PhysicsKernel}.
+ * </p>
  */
 public final class ResistanceTask implements Task {
     @Override
     public void execute(@Nonnull Duration delta) {
-        TerraEngine.getState().getWorlds().forEach(world -> {
-            world.getObjects().forEach(object -> {
-                final TSet<TObject> fluids = world.getObjects()
-                        .filter(o -> !o.equals(object))
-                        .filter(o -> o.isFluid() && object.overlaps(o));
+        TerraEngine.getState().getWorlds().forEach(this::resist);
+    }
+
+    // Decelerates every dynamic object of a world
+    private void resist(@Nonnull World world) {
+        final TCollection<TObject> all = world.getObjects();
+
+        // Immovable objects ignore changes to their vector, but may still be fluids
+        final TSet<TObject> snapshot = world.getDynamicObjects();
+        final int count = snapshot.size();
+        ensureCapacity(count);
+
+        // Gather velocities
+        int i = 0;
+        for (TObject object : snapshot) {
+            final Vector vector = object.getVector();
+
+            objects[i] = object;
+            vx[i] = vector.x();
+            vy[i] = vector.y();
+            vz[i] = vector.z();
+            i++;
+        }
+
+        final IntStream indices = IntStream.range(0, count);
+        (TParallel.isParallel(count) ? indices.parallel() : indices)
+                .forEach(j -> ratios[j] = decelerationRatio(world, all, objects[j]));
+
+        kernel.applyDrag(vx, vy, vz, ratios, count);
+
+        // Write back the new velocities
+        for (i = 0; i < count; i++) {
+            final TObject object = objects[i];
+            objects[i] = null;
+
+            object.setVector(new Vector(vx[i], vy[i], vz[i]));
+        }
+    }
+
+    // Gets the ratio an object keeps of its velocity, given the densest fluid it is in
+    private static double decelerationRatio(@Nonnull World world, @Nonnull TCollection<TObject> all, @Nonnull TObject object) {
+        final TCollection<TObject> fluids = all.lazy()
+                .filter(o -> !o.equals(object))
+                .filter(o -> o.isFluid() && object.overlaps(o));
 
-                double fluidDensity = fluids.size() == 0 ? world.getAirDensity() : 0;
-                for (TObject fluid : fluids) {
-                    if (fluid.getDensity() > fluidDensity) fluidDensity = fluid.getDensity();
-                }
+        // The view is evaluated once; air is only used if no fluid matched
+        double fluidDensity = -1;
+        for (TObject fluid : fluids) {
+            if (fluid.getDensity() > fluidDensity) fluidDensity = fluid.getDensity();
+        }
 
-                final double kineticEnergy = Math.max(Physics.kineticEnergy(object), Double.MIN_VALUE);
+        if (fluidDensity < 0) fluidDensity = world.getAirDensity();
 
-                final double crossSection = object.getVolume().getCrossSection(object.getVector().modifyAll(-1));
-                final double forceConstant = fluidDensity * object.getDragCoefficient() * crossSection;
-                final double dragForce = forceConstant * Math.pow(object.getVelocity(), 2);
-                final double decelerationRatio = Math.max(Double.MIN_VALUE, 1 - (dragForce / kineticEnergy));
+        final double kineticEnergy = Math.max(Physics.kineticEnergy(object), Double.MIN_VALUE);
 
-//               if (object instanceof RealisticObject) {
+        // Cross-sections are symmetric, so the direction of motion is used as-is
+        final double crossSection = object.getVolume().getCrossSection(object.getVector());
+        final double forceConstant = fluidDensity * object.getDragCoefficient() * crossSection;
+        final double dragForce = forceConstant * Math.pow(object.getVelocity(), 2);
+
+//        if (object instanceof RealisticObject) {
 //
-//                   System.out.println(kineticEnergy);
-//                   System.out.println(crossSection);
-//                   System.out.println(forceConstant);
-//                   System.out.println(dragForce);
-//                   System.out.println(decelerationRatio);
+//            System.out.println(kineticEnergy);
+//            System.out.println(crossSection);
+//            System.out.println(forceConstant);
+//            System.out.println(dragForce);
 //
-//                   System.out.println("===");
-//               }
+//            System.out.println("===");
+//        }
+
+        return Math.max(Double.MIN_VALUE, 1 - (dragForce / kineticEnergy));
+    }
 
-                object.setVector(object.getVector().modifyAll(decelerationRatio));
-            });
-        });
+    // Grows the arrays to hold at least given number of objects
+    private void ensureCapacity(@Nonnegative int count) {
+        if (objects.length >= count) return;
+
+        final int capacity = Math.max(count, objects.length * 2);
+
+        objects = new TObject[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        vz = new double[capacity];
+        ratios = new double[capacity];
     }
 
     @Nonnull
@@ -66,4 +129,17 @@ public final class ResistanceTask implements Task {
     public Duration getInterval() {
         return Duration.ZERO;
     }
+
+    @Nonnull
+    private final PhysicsKernel kernel = PhysicsKernel.getDefault();
+    @Nonnull
+    private TObject[] objects = new TObject[0];
+    @Nonnull
+    private double[] vx = new double[0];
+    @Nonnull
+    private double[] vy = new double[0];
+    @Nonnull
+    private double[] vz = new double[0];
+    @Nonnull
+    private double[] ratios = new double[0];
 }
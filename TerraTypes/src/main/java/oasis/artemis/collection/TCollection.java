@@ -1,9 +1,13 @@
 package oasis.artemis.collection;
 
+import oasis.artemis.collection.list.TArray;
+
 import javax.annotation.Nonnull;
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * <h2>TCollection</h2>
@@ -11,6 +15,15 @@ import java.util.function.Predicate;
  * A specialized version of {@link Collection} used in Terra modules.
  * TerraCollections add delegate methods for JavaScript-like behavior.
  * </p>
+ * <p>
+ * {@link TCollection#filter(Predicate)} and {@link TCollection#map(Function)} create a new collection per call.
+ * When chaining them, use {@link TCollection#lazy()} to fuse the chain into a single pass instead.
+ * </p>
+ * <p>
+ * The parallel variants split large collections across the common fork-join pool,
+ * and fall back to their sequential counterparts below the threshold of {@link TParallel}.
+ * Parallel results are collected into a new mutable collection.
+ * </p>
  */
 public interface TCollection<E> extends Collection<E> {
     /**
@@ -41,4 +54,57 @@ public interface TCollection<E> extends Collection<E> {
      */
     @Nonnull
     <F extends E> TCollection<F> map(@Nonnull Function<? super E, ? extends F> mapper);
+
+    /**
+     * Creates a lazy view of this collection.
+     * Filters and mappers applied to the view are fused, and evaluated without intermediate collections.
+     *
+     * @return {@link TLazyCollection}
+     */
+    @Nonnull
+    default TLazyCollection<E> lazy() {
+        return new TLazyCollection<>(this);
+    }
+
+    /**
+     * Filters this collection by given filter, in parallel if this collection is large enough.
+     * The filter must be thread-safe.
+     *
+     * @param filter Filter to apply
+     * @return Filtered collection
+     */
+    @Nonnull
+    default TCollection<E> parallelFilter(@Nonnull Predicate<E> filter) {
+        if (!TParallel.isParallel(size())) return filter(filter);
+        return parallelStream().filter(filter).collect(Collectors.toCollection(TArray::new));
+    }
+
+    /**
+     * Maps this collection, in parallel if this collection is large enough.
+     * The mapper must be thread-safe.
+     *
+     * @param mapper Mapper to use
+     * @param <F>    Subtype to map to
+     * @return Mapped collection
+     */
+    @Nonnull
+    default <F extends E> TCollection<F> parallelMap(@Nonnull Function<? super E, ? extends F> mapper) {
+        if (!TParallel.isParallel(size())) return map(mapper);
+        return parallelStream().<F>map(mapper).collect(Collectors.toCollection(TArray::new));
+    }
+
+    /**
+     * Performs given action for each element, in parallel if this collection is large enough.
+     * The action must be thread-safe, and elements are not visited in any particular order.
+     *
+     * @param action Action to perform
+     */
+    default void parallelForEach(@Nonnull Consumer<? super E> action) {
+        if (!TParallel.isParallel(size())) {
+            forEach(action);
+            return;
+        }
+
+        parallelStream().forEach(action);
+    }
 }
@@ -0,0 +1,116 @@
+package oasis.artemis.collection;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>TCollectionView</h2>
+ * <p>
+ * A live view of another collection.
+ * Changes to either collection are reflected in the other.
+ * This is used to expose collections such as {@link java.util.Map#values()} as a {@link TCollection} without copying.
+ * </p>
+ *
+ * @param <E> Type of element
+ */
+public final class TCollectionView<E> extends AbstractCollection<E> implements TCollection<E> {
+    /**
+     * Creates a new live view of given collection.
+     *
+     * @param collection Collection to wrap
+     */
+    public TCollectionView(@Nonnull Collection<E> collection) {
+        this.collection = collection;
+    }
+
+    @Nonnull
+    @Override
+    public TList<E> filter(@Nonnull Predicate<E> filter) {
+        final TList<E> result = new TArray<>();
+        for (E e : collection) {
+            if (filter.test(e)) result.add(e);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TList<F> filter(@Nonnull Class<F> subtype) {
+        final TList<F> result = new TArray<>();
+        for (E e : collection) {
+            if (subtype.isInstance(e)) result.add(subtype.cast(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TList<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        final TList<F> result = new TArray<>(collection.size());
+        for (E e : collection) {
+            result.add(mapper.apply(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        return collection.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return collection.spliterator();
+    }
+
+    @Override
+    public void forEach(@Nonnull Consumer<? super E> action) {
+        collection.forEach(action);
+    }
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return collection.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return collection.contains(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return collection.remove(o);
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull Predicate<? super E> filter) {
+        return collection.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        collection.clear();
+    }
+
+    @Nonnull
+    private final Collection<E> collection;
+}
@@ -0,0 +1,190 @@
+package oasis.artemis.collection;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.collection.set.THashSet;
+import oasis.artemis.collection.set.TSet;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>TLazyCollection</h2>
+ * <p>
+ * A lazy, read-only view of another collection.
+ * Filters and mappers applied to this view are fused into a single stage,
+ * which is only evaluated when the view is iterated.
+ * No intermediate collections are created, regardless of the length of the chain.
+ * </p>
+ * <p>
+ * The view reflects the current contents of its source collection,
+ * and is re-evaluated every time it is iterated.
+ * Use {@link TLazyCollection#list()} or {@link TLazyCollection#set()} to materialize it.
+ * </p>
+ * <p>
+ * Since the size of the view is unknown until it is evaluated,
+ * {@link TLazyCollection#size()} iterates the whole source collection.
+ * </p>
+ *
+ * @param <E> Type of element
+ */
+public final class TLazyCollection<E> extends AbstractCollection<E> implements TCollection<E> {
+    /**
+     * Creates a new lazy view of given collection.
+     *
+     * @param source Source collection
+     */
+    public TLazyCollection(@Nonnull Collection<? extends E> source) {
+        this(source, e -> e);
+    }
+
+    private TLazyCollection(@Nonnull Collection<?> source, @Nonnull Function<Object, Object> stage) {
+        this.source = source;
+        this.stage = stage;
+    }
+
+    @Nonnull
+    @Override
+    public TLazyCollection<E> filter(@Nonnull Predicate<E> filter) {
+        final Function<Object, Object> stage = this.stage;
+
+        return new TLazyCollection<>(source, e -> {
+            final Object result = stage.apply(e);
+            return result == SKIP || !filter.test(cast(result)) ? SKIP : result;
+        });
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TLazyCollection<F> filter(@Nonnull Class<F> subtype) {
+        final Function<Object, Object> stage = this.stage;
+
+        return new TLazyCollection<>(source, e -> {
+            final Object result = stage.apply(e);
+            return subtype.isInstance(result) ? result : SKIP;
+        });
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TLazyCollection<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        final Function<Object, Object> stage = this.stage;
+
+        return new TLazyCollection<>(source, e -> {
+            final Object result = stage.apply(e);
+            return result == SKIP ? SKIP : mapper.apply(cast(result));
+        });
+    }
+
+    /**
+     * Returns this view.
+     *
+     * @return This
+     */
+    @Nonnull
+    @Override
+    public TLazyCollection<E> lazy() {
+        return this;
+    }
+
+    /**
+     * Evaluates this view into a new list.
+     *
+     * @return {@link TList}
+     */
+    @Nonnull
+    public TList<E> list() {
+        final TList<E> list = new TArray<>();
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Evaluates this view into a new set.
+     *
+     * @return {@link TSet}
+     */
+    @Nonnull
+    public TSet<E> set() {
+        final TSet<E> set = new THashSet<>();
+        forEach(set::add);
+        return set;
+    }
+
+    @Override
+    public void forEach(@Nonnull Consumer<? super E> action) {
+        for (Object e : source) {
+            final Object result = stage.apply(e);
+            if (result != SKIP) action.accept(cast(result));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<?> iterator = source.iterator();
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                while (next == SKIP && iterator.hasNext()) {
+                    next = stage.apply(iterator.next());
+                }
+
+                return next != SKIP;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+
+                final Object result = next;
+                next = SKIP;
+                return cast(result);
+            }
+
+            private Object next = SKIP;
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Object e : source) {
+            if (stage.apply(e) != SKIP) size++;
+        }
+
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object o) {
+        return (T) o;
+    }
+
+    // Marks an element which was filtered out
+    private static final Object SKIP = new Object();
+
+    @Nonnull
+    private final Collection<?> source;
+    @Nonnull
+    private final Function<Object, Object> stage;
+}
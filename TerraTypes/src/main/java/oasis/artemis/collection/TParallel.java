@@ -0,0 +1,69 @@
+package oasis.artemis.collection;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * <h2>TParallel</h2>
+ * <p>
+ * Decides whether bulk operations of {@link TCollection} should run in parallel.
+ * </p>
+ * <p>
+ * Splitting work across the common fork-join pool has a fixed overhead,
+ * which only pays off for collections above a certain size.
+ * Below the threshold, or when only one processor is available, operations run sequentially.
+ * </p>
+ * <p>
+ * The threshold defaults to {@value TParallel#DEFAULT_THRESHOLD} elements,
+ * and can be calibrated with the {@value TParallel#THRESHOLD_PROPERTY} system property,
+ * or at runtime with {@link TParallel#setThreshold(int)}.
+ * </p>
+ */
+public final class TParallel {
+    /**
+     * Gets the current size threshold.
+     *
+     * @return Minimum size for parallel execution
+     */
+    @Nonnegative
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the size threshold.
+     *
+     * @param threshold Minimum size for parallel execution
+     * @throws IllegalArgumentException When the threshold is negative
+     */
+    public static void setThreshold(@Nonnegative int threshold) throws IllegalArgumentException {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold cannot be negative");
+        TParallel.threshold = threshold;
+    }
+
+    /**
+     * Checks if a bulk operation over given number of elements should run in parallel.
+     *
+     * @param size Number of elements
+     * @return {@code true} if the operation should run in parallel
+     */
+    public static boolean isParallel(@Nonnegative int size) {
+        return size >= threshold && PROCESSORS > 1;
+    }
+
+    private TParallel() {}
+
+    /**
+     * The system property used to configure the threshold.
+     */
+    public static final String THRESHOLD_PROPERTY = "terra.parallel.threshold";
+
+    /**
+     * The default threshold.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    @Nonnegative
+    private static volatile int threshold = Math.max(0, Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+}
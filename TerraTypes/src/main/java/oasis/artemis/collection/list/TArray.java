@@ -10,7 +10,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * <h2>TArray</h2>
@@ -53,19 +52,34 @@ public class TArray<E> extends ArrayList<E> implements TList<E> {
     @Nonnull
     @Override
     public TList<E> filter(@Nonnull Predicate<E> filter) {
-        return new TArray<>(stream().filter(filter).collect(Collectors.toList()));
+        final TList<E> result = new TArray<>();
+        for (E e : this) {
+            if (filter.test(e)) result.add(e);
+        }
+
+        return result;
     }
 
     @Nonnull
     @Override
     public <F extends E> TList<F> filter(@Nonnull Class<F> subtype) {
-        return new TArray<>(filter(subtype::isInstance).map(subtype::cast));
+        final TList<F> result = new TArray<>();
+        for (E e : this) {
+            if (subtype.isInstance(e)) result.add(subtype.cast(e));
+        }
+
+        return result;
     }
 
     @Nonnull
     @Override
     public <F extends E> TList<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
-        return new TArray<>(stream().map(mapper).collect(Collectors.toList()));
+        final TList<F> result = new TArray<>(size());
+        for (E e : this) {
+            result.add(mapper.apply(e));
+        }
+
+        return result;
     }
 
     @Nonnull
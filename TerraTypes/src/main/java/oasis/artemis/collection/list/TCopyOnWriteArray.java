@@ -0,0 +1,90 @@
+package oasis.artemis.collection.list;
+
+import oasis.artemis.collection.set.TConcurrentSet;
+import oasis.artemis.collection.set.TSet;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>TCopyOnWriteArray</h2>
+ * <p>A specialized version of {@link CopyOnWriteArrayList} used in Terra modules.</p>
+ * <p>
+ * Every modification copies the underlying array, so reads and iteration never lock,
+ * and iterators never throw {@link java.util.ConcurrentModificationException}.
+ * Use this for lists which are rarely modified, but read from multiple threads.
+ * </p>
+ */
+public class TCopyOnWriteArray<E> extends CopyOnWriteArrayList<E> implements TList<E> {
+    /**
+     * Creates a new empty TCopyOnWriteArray.
+     */
+    public TCopyOnWriteArray() {}
+
+    /**
+     * Creates a new TCopyOnWriteArray containing given entries.
+     *
+     * @param entries Entries
+     */
+    @SafeVarargs
+    public TCopyOnWriteArray(@Nonnull E... entries) {
+        this(List.of(entries));
+    }
+
+    /**
+     * Creates a new TCopyOnWriteArray from a collection.
+     *
+     * @param collection Collection
+     */
+    public TCopyOnWriteArray(@Nonnull Collection<? extends E> collection) {
+        super(collection);
+    }
+
+    @Nonnull
+    @Override
+    public TList<E> filter(@Nonnull Predicate<E> filter) {
+        final TList<E> result = new TArray<>();
+        for (E e : this) {
+            if (filter.test(e)) result.add(e);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TList<F> filter(@Nonnull Class<F> subtype) {
+        final TList<F> result = new TArray<>();
+        for (E e : this) {
+            if (subtype.isInstance(e)) result.add(subtype.cast(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TList<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        final TList<F> result = new TArray<>(size());
+        for (E e : this) {
+            result.add(mapper.apply(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TSet<E> set() {
+        return new TConcurrentSet<>(this);
+    }
+
+    @Override
+    public int uniqueSize() {
+        return set().size();
+    }
+}
@@ -1,6 +1,7 @@
 package oasis.artemis.collection.list;
 
 import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.TParallel;
 import oasis.artemis.collection.set.TSet;
 
 import javax.annotation.Nonnegative;
@@ -8,6 +9,7 @@ import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * <h2>TList</h2>
@@ -43,4 +45,18 @@ public interface TList<E> extends TCollection<E>, List<E> {
     @Nonnull
     @Override
     <F extends E> TList<F> map(@Nonnull Function<? super E, ? extends F> mapper);
+
+    @Nonnull
+    @Override
+    default TList<E> parallelFilter(@Nonnull Predicate<E> filter) {
+        if (!TParallel.isParallel(size())) return filter(filter);
+        return parallelStream().filter(filter).collect(Collectors.toCollection(TArray::new));
+    }
+
+    @Nonnull
+    @Override
+    default <F extends E> TList<F> parallelMap(@Nonnull Function<? super E, ? extends F> mapper) {
+        if (!TParallel.isParallel(size())) return map(mapper);
+        return parallelStream().<F>map(mapper).collect(Collectors.toCollection(TArray::new));
+    }
 }
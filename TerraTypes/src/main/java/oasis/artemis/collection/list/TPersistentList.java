@@ -0,0 +1,375 @@
+package oasis.artemis.collection.list;
+
+import oasis.artemis.collection.set.TPersistentSet;
+import oasis.artemis.collection.set.TSet;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * <h2>TPersistentList</h2>
+ * <p>
+ * An immutable {@link TList} implemented as a bit-partitioned vector trie with a tail buffer.
+ * </p>
+ * <p>
+ * Instead of being modified, a persistent list creates a new version of itself with
+ * {@link TPersistentList#plus(Object)}, {@link TPersistentList#with(int, Object)} and {@link TPersistentList#minusLast()}.
+ * Appending is amortized O(1), and replacing an element copies only the path to it (O(log32 n)).
+ * Every version shares most of its structure with the previous one.
+ * Since no version can ever change, taking a snapshot is free.
+ * </p>
+ * <p>
+ * Inserting or removing elements in the middle, and concatenation, are not supported.
+ * Every method which would modify this list in place throws an {@link UnsupportedOperationException}.
+ * </p>
+ */
+public final class TPersistentList<E> extends AbstractList<E> implements TList<E>, Serializable {
+    /**
+     * Gets the empty persistent list.
+     *
+     * @param <E> Type of element
+     * @return Empty list
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <E> TPersistentList<E> empty() {
+        return (TPersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent list containing every element of given collection, in order.
+     *
+     * @param collection Collection to copy
+     * @param <E>        Type of element
+     * @return Persistent list
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <E> TPersistentList<E> copyOf(@Nonnull Collection<? extends E> collection) {
+        if (collection instanceof TPersistentList<?> persistent) return (TPersistentList<E>) persistent;
+
+        TPersistentList<E> result = empty();
+        for (E e : collection) {
+            result = result.plus(e);
+        }
+
+        return result;
+    }
+
+    private TPersistentList(@Nonnegative int size, int shift, @Nonnull Object[] root, @Nonnull Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    //
+    // Persistent operations
+    //
+
+    /**
+     * Returns a new version of this list with given element appended.
+     *
+     * @param element Element to append
+     * @return New list
+     */
+    @Nonnull
+    public TPersistentList<E> plus(@Nullable E element) {
+        // Room in the tail
+        if (tail.length < WIDTH) {
+            final Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = element;
+            return new TPersistentList<>(size + 1, shift, root, newTail);
+        }
+
+        // Push the full tail into the trie
+        final Object[] newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            // Root overflow
+            newRoot = new Object[]{root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+
+        return new TPersistentList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new version of this list with the element at given index replaced.
+     *
+     * @param index   Index of element
+     * @param element Element to set
+     * @return New list
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    @Nonnull
+    public TPersistentList<E> with(@Nonnegative int index, @Nullable E element) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        if (index >= tailOffset()) {
+            final Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new TPersistentList<>(size, shift, root, newTail);
+        }
+
+        return new TPersistentList<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a new version of this list without its last element.
+     *
+     * @return New list
+     * @throws IllegalStateException When this list is empty
+     */
+    @Nonnull
+    public TPersistentList<E> minusLast() throws IllegalStateException {
+        if (size == 0) throw new IllegalStateException("List is empty");
+        if (size == 1) return empty();
+
+        if (tail.length > 1) {
+            final Object[] newTail = new Object[tail.length - 1];
+            System.arraycopy(tail, 0, newTail, 0, newTail.length);
+            return new TPersistentList<>(size - 1, shift, root, newTail);
+        }
+
+        // Pull the last leaf of the trie into the tail
+        final Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+
+        if (newRoot == null) newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot.length == 1) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+
+        return new TPersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    //
+    // Lookup
+    //
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) throw new NoSuchElementException();
+
+                // Only descend the trie once per leaf
+                if ((index & MASK) == 0) leaf = leafFor(index);
+                return (E) leaf[index++ & MASK];
+            }
+
+            private int index = 0;
+            private Object[] leaf = tail;
+        };
+    }
+
+    @Nonnull
+    @Override
+    public TPersistentList<E> filter(@Nonnull Predicate<E> filter) {
+        TPersistentList<E> result = empty();
+        for (E e : this) {
+            if (filter.test(e)) result = result.plus(e);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TPersistentList<F> filter(@Nonnull Class<F> subtype) {
+        TPersistentList<F> result = empty();
+        for (E e : this) {
+            if (subtype.isInstance(e)) result = result.plus(subtype.cast(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TPersistentList<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        TPersistentList<F> result = empty();
+        for (E e : this) {
+            result = result.plus(mapper.apply(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TSet<E> set() {
+        return TPersistentSet.copyOf(this);
+    }
+
+    @Override
+    public int uniqueSize() {
+        return set().size();
+    }
+
+    //
+    // Unsupported
+    //
+
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void replaceAll(@Nonnull UnaryOperator<E> operator) {
+        throw new UnsupportedOperationException();
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Gets the index of the first element in the tail
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    // Gets the leaf array containing the element at given index
+    @Nonnull
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) return tail;
+
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+
+        return node;
+    }
+
+    // Copies the path to given leaf index, replacing the element
+    @Nonnull
+    private static Object[] assoc(int level, @Nonnull Object[] node, int index, @Nullable Object element) {
+        final Object[] copy = node.clone();
+
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            final int i = (index >>> level) & MASK;
+            copy[i] = assoc(level - BITS, (Object[]) node[i], index, element);
+        }
+
+        return copy;
+    }
+
+    // Copies the rightmost path of the trie, appending a full leaf
+    @Nonnull
+    private Object[] pushTail(int level, @Nonnull Object[] parent, @Nonnull Object[] leaf) {
+        final int i = ((size - 1) >>> level) & MASK;
+
+        final Object[] copy = new Object[Math.max(parent.length, i + 1)];
+        System.arraycopy(parent, 0, copy, 0, parent.length);
+
+        if (level == BITS) {
+            copy[i] = leaf;
+        } else {
+            copy[i] = i < parent.length ? pushTail(level - BITS, (Object[]) parent[i], leaf) : newPath(level - BITS, leaf);
+        }
+
+        return copy;
+    }
+
+    // Copies the rightmost path of the trie without its last leaf, returns null if the node became empty
+    @Nullable
+    private Object[] popTail(int level, @Nonnull Object[] node) {
+        final int i = ((size - 2) >>> level) & MASK;
+
+        if (level > BITS) {
+            final Object[] child = popTail(level - BITS, (Object[]) node[i]);
+            if (child == null && i == 0) return null;
+
+            final Object[] copy = new Object[child == null ? i : i + 1];
+            System.arraycopy(node, 0, copy, 0, Math.min(node.length, copy.length));
+            if (child != null) copy[i] = child;
+            return copy;
+        }
+
+        if (i == 0) return null;
+
+        final Object[] copy = new Object[i];
+        System.arraycopy(node, 0, copy, 0, i);
+        return copy;
+    }
+
+    // Creates a path of single-child nodes down to given leaf
+    @Nonnull
+    private static Object[] newPath(int level, @Nonnull Object[] leaf) {
+        return level == 0 ? leaf : new Object[]{newPath(level - BITS, leaf)};
+    }
+
+    // Throws an exception if the index is out of bounds
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[0];
+    private static final TPersistentList<?> EMPTY = new TPersistentList<>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    @Nonnegative
+    private final int size;
+    private final int shift;
+    @Nonnull
+    private final Object[] root;
+    @Nonnull
+    private final Object[] tail;
+}
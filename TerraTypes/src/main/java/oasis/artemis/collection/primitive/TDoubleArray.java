@@ -0,0 +1,311 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * <h2>TDoubleArray</h2>
+ * <p>A resizable array implementation of {@link TDoubleList}.</p>
+ */
+public class TDoubleArray implements TDoubleList {
+    /**
+     * Creates a new empty TDoubleArray.
+     */
+    public TDoubleArray() {
+        this(new double[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Creates a new TDoubleArray containing given elements.
+     *
+     * @param elements Elements
+     */
+    public TDoubleArray(@Nonnull double... elements) {
+        this(elements.clone(), elements.length);
+    }
+
+    /**
+     * Creates a new TDoubleArray from another list.
+     *
+     * @param list List to copy
+     */
+    public TDoubleArray(@Nonnull TDoubleList list) {
+        this.elements = list.toArray();
+        this.size = elements.length;
+    }
+
+    // Creates a new TDoubleArray backed by given array, of which the first given number of elements are in use
+    private TDoubleArray(@Nonnull double[] elements, @Nonnegative int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new empty TDoubleArray with given capacity.
+     *
+     * @param initialCapacity Initial capacity
+     * @return Empty TDoubleArray
+     */
+    @Nonnull
+    public static TDoubleArray withCapacity(@Nonnegative int initialCapacity) {
+        return new TDoubleArray(new double[initialCapacity], 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public double get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public double set(int index, double element) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        final double previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(double element) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = element;
+    }
+
+    @Override
+    public void addAll(@Nonnull double... elements) {
+        if (size + elements.length > this.elements.length) grow(size + elements.length);
+
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    @Override
+    public void addAll(@Nonnull TDoubleList elements) {
+        addAll(elements.toArray());
+    }
+
+    @Override
+    public double removeAt(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        final double removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull DoublePredicate filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(elements[i])) elements[kept++] = elements[i];
+        }
+
+        final boolean removed = kept != size;
+        size = kept;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public boolean contains(double element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(double element) {
+        for (int i = 0; i < size; i++) {
+            if (equals(elements[i], element)) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public double sum() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    @Nonnull
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Nonnull
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= size) throw new NoSuchElementException();
+                return elements[index++];
+            }
+
+            private int index = 0;
+        };
+    }
+
+    @Override
+    public void forEach(@Nonnull DoubleConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    @Nonnull
+    @Override
+    public TDoubleList filter(@Nonnull DoublePredicate filter) {
+        final TDoubleArray result = new TDoubleArray();
+        for (int i = 0; i < size; i++) {
+            if (filter.test(elements[i])) result.add(elements[i]);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TDoubleList map(@Nonnull DoubleUnaryOperator mapper) {
+        final TDoubleArray result = withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            result.elements[i] = mapper.applyAsDouble(elements[i]);
+        }
+
+        result.size = size;
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TDoubleList distinct() {
+        final TLongSet seen = TLongHashSet.withCapacity(size);
+        final TDoubleArray result = new TDoubleArray();
+
+        for (int i = 0; i < size; i++) {
+            if (seen.add(Double.doubleToLongBits(elements[i]))) result.add(elements[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public int uniqueSize() {
+        final TLongSet seen = TLongHashSet.withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            seen.add(Double.doubleToLongBits(elements[i]));
+        }
+
+        return seen.size();
+    }
+
+    @Nonnull
+    @Override
+    public TList<Double> boxed() {
+        final TList<Double> list = new TArray<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elements[i]);
+        }
+
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TDoubleList other) || other.size() != size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (!equals(elements[i], other.get(i))) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            final double e = elements[i];
+            hash = 31 * hash + Double.hashCode(e);
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Grows the backing array to fit at least given number of elements
+    private void grow(int minCapacity) {
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1));
+    }
+
+    // Throws an exception if the index is out of bounds
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    // Compares two elements
+    private static boolean equals(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    @Nonnull
+    private double[] elements;
+    @Nonnegative
+    private int size;
+}
@@ -0,0 +1,311 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * <h2>TIntArray</h2>
+ * <p>A resizable array implementation of {@link TIntList}.</p>
+ */
+public class TIntArray implements TIntList {
+    /**
+     * Creates a new empty TIntArray.
+     */
+    public TIntArray() {
+        this(new int[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Creates a new TIntArray containing given elements.
+     *
+     * @param elements Elements
+     */
+    public TIntArray(@Nonnull int... elements) {
+        this(elements.clone(), elements.length);
+    }
+
+    /**
+     * Creates a new TIntArray from another list.
+     *
+     * @param list List to copy
+     */
+    public TIntArray(@Nonnull TIntList list) {
+        this.elements = list.toArray();
+        this.size = elements.length;
+    }
+
+    // Creates a new TIntArray backed by given array, of which the first given number of elements are in use
+    private TIntArray(@Nonnull int[] elements, @Nonnegative int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new empty TIntArray with given capacity.
+     *
+     * @param initialCapacity Initial capacity
+     * @return Empty TIntArray
+     */
+    @Nonnull
+    public static TIntArray withCapacity(@Nonnegative int initialCapacity) {
+        return new TIntArray(new int[initialCapacity], 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public int set(int index, int element) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        final int previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int element) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = element;
+    }
+
+    @Override
+    public void addAll(@Nonnull int... elements) {
+        if (size + elements.length > this.elements.length) grow(size + elements.length);
+
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    @Override
+    public void addAll(@Nonnull TIntList elements) {
+        addAll(elements.toArray());
+    }
+
+    @Override
+    public int removeAt(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        final int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull IntPredicate filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(elements[i])) elements[kept++] = elements[i];
+        }
+
+        final boolean removed = kept != size;
+        size = kept;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(int element) {
+        for (int i = 0; i < size; i++) {
+            if (equals(elements[i], element)) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    @Nonnull
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Nonnull
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) throw new NoSuchElementException();
+                return elements[index++];
+            }
+
+            private int index = 0;
+        };
+    }
+
+    @Override
+    public void forEach(@Nonnull IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    @Nonnull
+    @Override
+    public TIntList filter(@Nonnull IntPredicate filter) {
+        final TIntArray result = new TIntArray();
+        for (int i = 0; i < size; i++) {
+            if (filter.test(elements[i])) result.add(elements[i]);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TIntList map(@Nonnull IntUnaryOperator mapper) {
+        final TIntArray result = withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            result.elements[i] = mapper.applyAsInt(elements[i]);
+        }
+
+        result.size = size;
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TIntList distinct() {
+        final TLongSet seen = TLongHashSet.withCapacity(size);
+        final TIntArray result = new TIntArray();
+
+        for (int i = 0; i < size; i++) {
+            if (seen.add(elements[i])) result.add(elements[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public int uniqueSize() {
+        final TLongSet seen = TLongHashSet.withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            seen.add(elements[i]);
+        }
+
+        return seen.size();
+    }
+
+    @Nonnull
+    @Override
+    public TList<Integer> boxed() {
+        final TList<Integer> list = new TArray<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elements[i]);
+        }
+
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TIntList other) || other.size() != size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (!equals(elements[i], other.get(i))) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            final int e = elements[i];
+            hash = 31 * hash + e;
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Grows the backing array to fit at least given number of elements
+    private void grow(int minCapacity) {
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1));
+    }
+
+    // Throws an exception if the index is out of bounds
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    // Compares two elements
+    private static boolean equals(int a, int b) {
+        return a == b;
+    }
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    @Nonnull
+    private int[] elements;
+    @Nonnegative
+    private int size;
+}
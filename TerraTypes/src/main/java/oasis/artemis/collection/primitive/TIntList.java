@@ -0,0 +1,202 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * <h2>TIntList</h2>
+ * <p>
+ * A list of primitive {@code int} values, such as counters and indices.
+ * Unlike {@link TList}, elements are never boxed.
+ * </p>
+ * <p>
+ * The methods of this list follow the conventions of {@link TList}.
+ * </p>
+ */
+public interface TIntList {
+    /**
+     * Gets the number of elements in this list.
+     *
+     * @return Size
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * Checks if this list is empty.
+     *
+     * @return {@code true} if this list has no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets the element at given index.
+     *
+     * @param index Index of element
+     * @return Element
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    int get(@Nonnegative int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Replaces the element at given index.
+     *
+     * @param index   Index of element
+     * @param element Element to set
+     * @return Previous element
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    int set(@Nonnegative int index, int element) throws IndexOutOfBoundsException;
+
+    /**
+     * Adds an element to the end of this list.
+     *
+     * @param element Element to add
+     */
+    void add(int element);
+
+    /**
+     * Adds every given element to the end of this list.
+     *
+     * @param elements Elements to add
+     */
+    void addAll(@Nonnull int... elements);
+
+    /**
+     * Adds every element of given list to the end of this list.
+     *
+     * @param elements Elements to add
+     */
+    void addAll(@Nonnull TIntList elements);
+
+    /**
+     * Removes the element at given index.
+     *
+     * @param index Index of element
+     * @return Removed element
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    int removeAt(@Nonnegative int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Removes every element which matches given filter.
+     *
+     * @param filter Filter to apply
+     * @return {@code true} if any element was removed
+     */
+    boolean removeIf(@Nonnull IntPredicate filter);
+
+    /**
+     * Removes every element of this list.
+     */
+    void clear();
+
+    /**
+     * Checks if this list contains given element.
+     *
+     * @param element Element to check
+     * @return {@code true} if this list contains the element
+     */
+    boolean contains(int element);
+
+    /**
+     * Gets the index of the first occurrence of given element.
+     *
+     * @param element Element to find
+     * @return Index of element, {@code -1} if not found
+     */
+    int indexOf(int element);
+
+    /**
+     * Gets the sum of every element in this list.
+     *
+     * @return Sum of elements, as a {@code long} to prevent overflow
+     */
+    long sum();
+
+    /**
+     * Sorts this list in ascending order.
+     */
+    void sort();
+
+    /**
+     * Copies the elements of this list into a new array.
+     *
+     * @return Array of elements
+     */
+    @Nonnull
+    int[] toArray();
+
+    /**
+     * Gets an iterator of the elements of this list.
+     *
+     * @return Primitive iterator
+     */
+    @Nonnull
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Passes every element of this list to given action, in order.
+     *
+     * @param action Action to perform
+     */
+    void forEach(@Nonnull IntConsumer action);
+
+    /**
+     * Converts this list into a stream.
+     *
+     * @return {@link IntStream}
+     */
+    @Nonnull
+    IntStream stream();
+
+    /**
+     * Filters this list by given filter.
+     *
+     * @param filter Filter to apply
+     * @return Filtered list
+     */
+    @Nonnull
+    TIntList filter(@Nonnull IntPredicate filter);
+
+    /**
+     * Maps this list using given mapper.
+     *
+     * @param mapper Mapper to use
+     * @return Mapped list
+     */
+    @Nonnull
+    TIntList map(@Nonnull IntUnaryOperator mapper);
+
+    /**
+     * Gets a list of the unique elements of this list, in order of first occurrence.
+     *
+     * @return Distinct list
+     */
+    @Nonnull
+    TIntList distinct();
+
+    /**
+     * Gets the unique number of elements in this list.
+     * Duplicates will be counted as one.
+     *
+     * @return Unique size
+     */
+    @Nonnegative
+    int uniqueSize();
+
+    /**
+     * Converts this list to a list of boxed values.
+     *
+     * @return {@link TList}
+     */
+    @Nonnull
+    TList<Integer> boxed();
+}
@@ -0,0 +1,304 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * <h2>TLongArray</h2>
+ * <p>A resizable array implementation of {@link TLongList}.</p>
+ */
+public class TLongArray implements TLongList {
+    /**
+     * Creates a new empty TLongArray.
+     */
+    public TLongArray() {
+        this(new long[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Creates a new TLongArray containing given elements.
+     *
+     * @param elements Elements
+     */
+    public TLongArray(@Nonnull long... elements) {
+        this(elements.clone(), elements.length);
+    }
+
+    /**
+     * Creates a new TLongArray from another list.
+     *
+     * @param list List to copy
+     */
+    public TLongArray(@Nonnull TLongList list) {
+        this.elements = list.toArray();
+        this.size = elements.length;
+    }
+
+    // Creates a new TLongArray backed by given array, of which the first given number of elements are in use
+    private TLongArray(@Nonnull long[] elements, @Nonnegative int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new empty TLongArray with given capacity.
+     *
+     * @param initialCapacity Initial capacity
+     * @return Empty TLongArray
+     */
+    @Nonnull
+    public static TLongArray withCapacity(@Nonnegative int initialCapacity) {
+        return new TLongArray(new long[initialCapacity], 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public long set(int index, long element) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        final long previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(long element) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = element;
+    }
+
+    @Override
+    public void addAll(@Nonnull long... elements) {
+        if (size + elements.length > this.elements.length) grow(size + elements.length);
+
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    @Override
+    public void addAll(@Nonnull TLongList elements) {
+        addAll(elements.toArray());
+    }
+
+    @Override
+    public long removeAt(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        final long removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull LongPredicate filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(elements[i])) elements[kept++] = elements[i];
+        }
+
+        final boolean removed = kept != size;
+        size = kept;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public boolean contains(long element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(long element) {
+        for (int i = 0; i < size; i++) {
+            if (equals(elements[i], element)) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += elements[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    @Nonnull
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Nonnull
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) throw new NoSuchElementException();
+                return elements[index++];
+            }
+
+            private int index = 0;
+        };
+    }
+
+    @Override
+    public void forEach(@Nonnull LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    @Nonnull
+    @Override
+    public TLongList filter(@Nonnull LongPredicate filter) {
+        final TLongArray result = new TLongArray();
+        for (int i = 0; i < size; i++) {
+            if (filter.test(elements[i])) result.add(elements[i]);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TLongList map(@Nonnull LongUnaryOperator mapper) {
+        final TLongArray result = withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            result.elements[i] = mapper.applyAsLong(elements[i]);
+        }
+
+        result.size = size;
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TLongSet set() {
+        final TLongSet set = TLongHashSet.withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            set.add(elements[i]);
+        }
+
+        return set;
+    }
+
+    @Override
+    public int uniqueSize() {
+        return set().size();
+    }
+
+    @Nonnull
+    @Override
+    public TList<Long> boxed() {
+        final TList<Long> list = new TArray<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elements[i]);
+        }
+
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TLongList other) || other.size() != size) return false;
+
+        for (int i = 0; i < size; i++) {
+            if (!equals(elements[i], other.get(i))) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            final long e = elements[i];
+            hash = 31 * hash + Long.hashCode(e);
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Grows the backing array to fit at least given number of elements
+    private void grow(int minCapacity) {
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1) + 1));
+    }
+
+    // Throws an exception if the index is out of bounds
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    // Compares two elements
+    private static boolean equals(long a, long b) {
+        return a == b;
+    }
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    @Nonnull
+    private long[] elements;
+    @Nonnegative
+    private int size;
+}
@@ -0,0 +1,285 @@
+package oasis.artemis.collection.primitive;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * <h2>TLongHashSet</h2>
+ * <p>
+ * An open addressing implementation of {@link TLongSet}.
+ * Elements are stored in a flat {@code long} array using linear probing,
+ * and removals shift succeeding elements back instead of leaving tombstones.
+ * </p>
+ */
+public class TLongHashSet implements TLongSet {
+    /**
+     * Creates a new empty TLongHashSet.
+     */
+    public TLongHashSet() {
+        this(new long[DEFAULT_CAPACITY], new boolean[DEFAULT_CAPACITY]);
+    }
+
+    /**
+     * Creates a new TLongHashSet containing given elements.
+     *
+     * @param elements Elements
+     */
+    public TLongHashSet(@Nonnull long... elements) {
+        this(new long[tableSizeFor(elements.length)], new boolean[tableSizeFor(elements.length)]);
+        addAll(elements);
+    }
+
+    // Creates a new empty TLongHashSet backed by given table, whose length must be a power of two
+    private TLongHashSet(@Nonnull long[] keys, @Nonnull boolean[] used) {
+        this.keys = keys;
+        this.used = used;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new empty TLongHashSet which can hold given number of elements without resizing.
+     *
+     * @param expectedSize Expected number of elements
+     * @return Empty TLongHashSet
+     */
+    @Nonnull
+    public static TLongHashSet withCapacity(@Nonnegative int expectedSize) {
+        final int capacity = tableSizeFor(expectedSize);
+        return new TLongHashSet(new long[capacity], new boolean[capacity]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean add(long element) {
+        final int mask = keys.length - 1;
+
+        for (int i = slot(element, mask); ; i = (i + 1) & mask) {
+            if (!used[i]) {
+                keys[i] = element;
+                used[i] = true;
+                if (++size > keys.length * 3 / 4) resize(keys.length << 1);
+                return true;
+            }
+
+            if (keys[i] == element) return false;
+        }
+    }
+
+    @Override
+    public boolean addAll(@Nonnull long... elements) {
+        boolean changed = false;
+        for (long e : elements) {
+            changed |= add(e);
+        }
+
+        return changed;
+    }
+
+    @Override
+    public boolean remove(long element) {
+        final int index = indexOf(element);
+        if (index < 0) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    @Override
+    public boolean contains(long element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Nonnull
+    @Override
+    public long[] toArray() {
+        final long[] array = new long[size];
+
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) array[j++] = keys[i];
+        }
+
+        return array;
+    }
+
+    @Nonnull
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                while (index < keys.length && !used[index]) index++;
+                return index < keys.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return keys[index++];
+            }
+
+            private int index = 0;
+        };
+    }
+
+    @Override
+    public void forEach(@Nonnull LongConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) action.accept(keys[i]);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public LongStream stream() {
+        return LongStream.of(toArray());
+    }
+
+    @Nonnull
+    @Override
+    public TLongSet filter(@Nonnull LongPredicate filter) {
+        final TLongSet result = new TLongHashSet();
+        forEach(e -> {
+            if (filter.test(e)) result.add(e);
+        });
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TLongSet map(@Nonnull LongUnaryOperator mapper) {
+        final TLongSet result = withCapacity(size);
+        forEach(e -> result.add(mapper.applyAsLong(e)));
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public TLongList list() {
+        return new TLongArray(toArray());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TLongSet other) || other.size() != size) return false;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i] && !other.contains(keys[i])) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) hash += Long.hashCode(keys[i]);
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Gets the index of an element, or -1 if not present
+    private int indexOf(long element) {
+        final int mask = keys.length - 1;
+
+        for (int i = slot(element, mask); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == element) return i;
+        }
+
+        return -1;
+    }
+
+    // Removes the element at given index, shifting back the elements probed past it
+    private void removeAt(int index) {
+        final int mask = keys.length - 1;
+
+        int gap = index;
+        for (int i = (gap + 1) & mask; used[i]; i = (i + 1) & mask) {
+            final int ideal = slot(keys[i], mask);
+
+            // Move the element into the gap if its ideal slot is not between the gap and itself
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                gap = i;
+            }
+        }
+
+        used[gap] = false;
+        size--;
+    }
+
+    // Rehashes every element into a table of given capacity
+    private void resize(int capacity) {
+        final long[] oldKeys = keys;
+        final boolean[] oldUsed = used;
+
+        keys = new long[capacity];
+        used = new boolean[capacity];
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+
+            int j = slot(oldKeys[i], mask);
+            while (used[j]) j = (j + 1) & mask;
+
+            keys[j] = oldKeys[i];
+            used[j] = true;
+        }
+    }
+
+    // Gets the ideal slot of an element
+    private static int slot(long element, int mask) {
+        final long h = element * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // Gets the power-of-two table size which holds given number of elements under the load factor
+    private static int tableSizeFor(int expectedSize) {
+        final int min = Math.max(DEFAULT_CAPACITY, (int) Math.min(1 << 30, (long) expectedSize * 4 / 3 + 1));
+        return Integer.highestOneBit(min - 1) << 1;
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Nonnull
+    private long[] keys;
+    @Nonnull
+    private boolean[] used;
+    @Nonnegative
+    private int size;
+}
@@ -0,0 +1,203 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * <h2>TLongList</h2>
+ * <p>
+ * A list of primitive {@code long} values, such as identifiers and timestamps.
+ * Unlike {@link TList}, elements are never boxed.
+ * </p>
+ * <p>
+ * The methods of this list follow the conventions of {@link TList}.
+ * </p>
+ */
+public interface TLongList {
+    /**
+     * Gets the number of elements in this list.
+     *
+     * @return Size
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * Checks if this list is empty.
+     *
+     * @return {@code true} if this list has no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets the element at given index.
+     *
+     * @param index Index of element
+     * @return Element
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    long get(@Nonnegative int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Replaces the element at given index.
+     *
+     * @param index   Index of element
+     * @param element Element to set
+     * @return Previous element
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    long set(@Nonnegative int index, long element) throws IndexOutOfBoundsException;
+
+    /**
+     * Adds an element to the end of this list.
+     *
+     * @param element Element to add
+     */
+    void add(long element);
+
+    /**
+     * Adds every given element to the end of this list.
+     *
+     * @param elements Elements to add
+     */
+    void addAll(@Nonnull long... elements);
+
+    /**
+     * Adds every element of given list to the end of this list.
+     *
+     * @param elements Elements to add
+     */
+    void addAll(@Nonnull TLongList elements);
+
+    /**
+     * Removes the element at given index.
+     *
+     * @param index Index of element
+     * @return Removed element
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    long removeAt(@Nonnegative int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Removes every element which matches given filter.
+     *
+     * @param filter Filter to apply
+     * @return {@code true} if any element was removed
+     */
+    boolean removeIf(@Nonnull LongPredicate filter);
+
+    /**
+     * Removes every element of this list.
+     */
+    void clear();
+
+    /**
+     * Checks if this list contains given element.
+     *
+     * @param element Element to check
+     * @return {@code true} if this list contains the element
+     */
+    boolean contains(long element);
+
+    /**
+     * Gets the index of the first occurrence of given element.
+     *
+     * @param element Element to find
+     * @return Index of element, {@code -1} if not found
+     */
+    int indexOf(long element);
+
+    /**
+     * Gets the sum of every element in this list.
+     *
+     * @return Sum of elements
+     */
+    long sum();
+
+    /**
+     * Sorts this list in ascending order.
+     */
+    void sort();
+
+    /**
+     * Copies the elements of this list into a new array.
+     *
+     * @return Array of elements
+     */
+    @Nonnull
+    long[] toArray();
+
+    /**
+     * Gets an iterator of the elements of this list.
+     *
+     * @return Primitive iterator
+     */
+    @Nonnull
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Passes every element of this list to given action, in order.
+     *
+     * @param action Action to perform
+     */
+    void forEach(@Nonnull LongConsumer action);
+
+    /**
+     * Converts this list into a stream.
+     *
+     * @return {@link LongStream}
+     */
+    @Nonnull
+    LongStream stream();
+
+    /**
+     * Filters this list by given filter.
+     *
+     * @param filter Filter to apply
+     * @return Filtered list
+     */
+    @Nonnull
+    TLongList filter(@Nonnull LongPredicate filter);
+
+    /**
+     * Maps this list using given mapper.
+     *
+     * @param mapper Mapper to use
+     * @return Mapped list
+     */
+    @Nonnull
+    TLongList map(@Nonnull LongUnaryOperator mapper);
+
+    /**
+     * Converts this list to a set.
+     * Duplicate data is lost.
+     *
+     * @return Converted set
+     */
+    @Nonnull
+    TLongSet set();
+
+    /**
+     * Gets the unique number of elements in this list.
+     * Duplicates will be counted as one.
+     *
+     * @return Unique size
+     */
+    @Nonnegative
+    int uniqueSize();
+
+    /**
+     * Converts this list to a list of boxed values.
+     *
+     * @return {@link TList}
+     */
+    @Nonnull
+    TList<Long> boxed();
+}
@@ -0,0 +1,274 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.list.TArray;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <h2>TLongObjectHashMap</h2>
+ * <p>
+ * An open addressing implementation of {@link TLongObjectMap}.
+ * Keys and values are stored in parallel flat arrays using linear probing,
+ * and removals shift succeeding entries back instead of leaving tombstones.
+ * A {@code null} value marks an empty slot.
+ * </p>
+ *
+ * @param <V> Type of value
+ */
+public class TLongObjectHashMap<V> implements TLongObjectMap<V> {
+    /**
+     * Creates a new empty TLongObjectHashMap.
+     */
+    public TLongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new TLongObjectHashMap which can hold given number of entries without resizing.
+     *
+     * @param expectedSize Expected number of entries
+     */
+    public TLongObjectHashMap(@Nonnegative int expectedSize) {
+        final int capacity = tableSizeFor(expectedSize);
+
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Nullable
+    @Override
+    public V get(long key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public V getOrDefault(long key, V defaultValue) {
+        final int index = indexOf(key);
+        return index < 0 ? defaultValue : valueAt(index);
+    }
+
+    @Nonnull
+    @Override
+    public V getOrDefaultPointer(long key, @Nonnull V value) {
+        final V existing = get(key);
+        if (existing != null) return existing;
+
+        put(key, value);
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public V put(long key, @Nonnull V value) {
+        Objects.requireNonNull(value);
+        final int mask = keys.length - 1;
+
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (values[i] == null) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > keys.length * 3 / 4) resize(keys.length << 1);
+                return null;
+            }
+
+            if (keys[i] == key) {
+                final V previous = valueAt(i);
+                values[i] = value;
+                return previous;
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public V remove(long key) {
+        final int index = indexOf(key);
+        if (index < 0) return null;
+
+        final V removed = valueAt(index);
+        removeAt(index);
+        return removed;
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Nonnull
+    @Override
+    public TLongSet keySet() {
+        final TLongSet keySet = TLongHashSet.withCapacity(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) keySet.add(keys[i]);
+        }
+
+        return keySet;
+    }
+
+    @Nonnull
+    @Override
+    public TCollection<V> values() {
+        final TArray<V> result = new TArray<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) result.add(valueAt(i));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void forEach(@Nonnull EntryConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) action.accept(keys[i], valueAt(i));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public TLongObjectMap<V> filter(@Nonnull EntryPredicate<? super V> filter) {
+        final TLongObjectMap<V> result = new TLongObjectHashMap<>();
+        forEach((key, value) -> {
+            if (filter.test(key, value)) result.put(key, value);
+        });
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TLongObjectMap<?> other) || other.size() != size) return false;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null && !values[i].equals(other.get(keys[i]))) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) hash += Long.hashCode(keys[i]) ^ values[i].hashCode();
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+
+        return builder.append('}').toString();
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Gets the value at given index
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    // Gets the index of a key, or -1 if not present
+    private int indexOf(long key) {
+        final int mask = keys.length - 1;
+
+        for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) return i;
+        }
+
+        return -1;
+    }
+
+    // Removes the entry at given index, shifting back the entries probed past it
+    private void removeAt(int index) {
+        final int mask = keys.length - 1;
+
+        int gap = index;
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            final int ideal = slot(keys[i], mask);
+
+            // Move the entry into the gap if its ideal slot is not between the gap and itself
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        values[gap] = null;
+        size--;
+    }
+
+    // Rehashes every entry into a table of given capacity
+    private void resize(int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+
+        keys = new long[capacity];
+        values = new Object[capacity];
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null) continue;
+
+            int j = slot(oldKeys[i], mask);
+            while (values[j] != null) j = (j + 1) & mask;
+
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    // Gets the ideal slot of a key
+    private static int slot(long key, int mask) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // Gets the power-of-two table size which holds given number of entries under the load factor
+    private static int tableSizeFor(int expectedSize) {
+        final int min = Math.max(DEFAULT_CAPACITY, (int) Math.min(1 << 30, (long) expectedSize * 4 / 3 + 1));
+        return Integer.highestOneBit(min - 1) << 1;
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Nonnull
+    private long[] keys;
+    @Nonnull
+    private Object[] values;
+    @Nonnegative
+    private int size;
+}
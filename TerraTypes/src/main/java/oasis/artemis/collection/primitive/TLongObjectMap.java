@@ -0,0 +1,169 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.map.TMap;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <h2>TLongObjectMap</h2>
+ * <p>
+ * A map of primitive {@code long} keys to object values.
+ * Unlike {@link TMap}, keys are never boxed.
+ * </p>
+ * <p>
+ * The methods of this map follow the conventions of {@link TMap}.
+ * {@code null} values are not supported.
+ * </p>
+ *
+ * @param <V> Type of value
+ */
+public interface TLongObjectMap<V> {
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return Size
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * Checks if this map is empty.
+     *
+     * @return {@code true} if this map has no entries
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets the value of given key.
+     *
+     * @param key Key to query
+     * @return Value, {@code null} if not found
+     */
+    @Nullable
+    V get(long key);
+
+    /**
+     * Gets the value of given key, or the default value if not found.
+     *
+     * @param key          Key to query
+     * @param defaultValue Value to return if the key is not found
+     * @return Value of the key if found, default value if not
+     */
+    V getOrDefault(long key, V defaultValue);
+
+    /**
+     * Gets the value of a given key.
+     * <p>
+     * If a corresponding value is not found, the default value will be
+     * put into this map, then a pointer to the newly put value will be returned.
+     * </p>
+     *
+     * @param key   Key to query
+     * @param value Default value to use
+     * @return Value of the key if found, default value if not
+     */
+    @Nonnull
+    V getOrDefaultPointer(long key, @Nonnull V value);
+
+    /**
+     * Puts a value into this map.
+     *
+     * @param key   Key
+     * @param value Value
+     * @return Previous value, {@code null} if there was none
+     */
+    @Nullable
+    V put(long key, @Nonnull V value);
+
+    /**
+     * Removes a key from this map.
+     *
+     * @param key Key to remove
+     * @return Removed value, {@code null} if there was none
+     */
+    @Nullable
+    V remove(long key);
+
+    /**
+     * Checks if this map contains given key.
+     *
+     * @param key Key to check
+     * @return {@code true} if this map contains the key
+     */
+    boolean containsKey(long key);
+
+    /**
+     * Removes every entry of this map.
+     */
+    void clear();
+
+    /**
+     * Gets a set of the keys of this map.
+     * Unlike {@link TMap#keySet()}, this is a copy.
+     *
+     * @return {@link TLongSet}
+     */
+    @Nonnull
+    TLongSet keySet();
+
+    /**
+     * Gets a collection of the values of this map.
+     * Unlike {@link TMap#values()}, this is a copy.
+     *
+     * @return {@link TCollection}
+     */
+    @Nonnull
+    TCollection<V> values();
+
+    /**
+     * Passes every entry of this map to given action.
+     *
+     * @param action Action to perform
+     */
+    void forEach(@Nonnull EntryConsumer<? super V> action);
+
+    /**
+     * Gets a filtered map of this map.
+     *
+     * @param filter Filter to apply
+     * @return Filtered map
+     */
+    @Nonnull
+    TLongObjectMap<V> filter(@Nonnull EntryPredicate<? super V> filter);
+
+    /**
+     * An action performed on an entry of a {@link TLongObjectMap}.
+     *
+     * @param <V> Type of value
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        /**
+         * Performs this action on an entry.
+         *
+         * @param key   Key
+         * @param value Value
+         */
+        void accept(long key, @Nonnull V value);
+    }
+
+    /**
+     * A predicate of an entry of a {@link TLongObjectMap}.
+     *
+     * @param <V> Type of value
+     */
+    @FunctionalInterface
+    interface EntryPredicate<V> {
+        /**
+         * Tests an entry.
+         *
+         * @param key   Key
+         * @param value Value
+         * @return {@code true} if the entry matches
+         */
+        boolean test(long key, @Nonnull V value);
+    }
+}
@@ -0,0 +1,135 @@
+package oasis.artemis.collection.primitive;
+
+import oasis.artemis.collection.set.TSet;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * <h2>TLongSet</h2>
+ * <p>
+ * A set of primitive {@code long} values.
+ * Unlike {@link TSet}, elements are never boxed.
+ * </p>
+ * <p>
+ * The methods of this set follow the conventions of {@link TSet}.
+ * </p>
+ */
+public interface TLongSet {
+    /**
+     * Gets the number of elements in this set.
+     *
+     * @return Size
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * Checks if this set is empty.
+     *
+     * @return {@code true} if this set has no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * Adds an element to this set.
+     *
+     * @param element Element to add
+     * @return {@code true} if the element was not already present
+     */
+    boolean add(long element);
+
+    /**
+     * Adds every given element to this set.
+     *
+     * @param elements Elements to add
+     * @return {@code true} if any element was not already present
+     */
+    boolean addAll(@Nonnull long... elements);
+
+    /**
+     * Removes an element from this set.
+     *
+     * @param element Element to remove
+     * @return {@code true} if the element was present
+     */
+    boolean remove(long element);
+
+    /**
+     * Removes every element of this set.
+     */
+    void clear();
+
+    /**
+     * Checks if this set contains given element.
+     *
+     * @param element Element to check
+     * @return {@code true} if this set contains the element
+     */
+    boolean contains(long element);
+
+    /**
+     * Copies the elements of this set into a new array.
+     * The order of elements is undefined.
+     *
+     * @return Array of elements
+     */
+    @Nonnull
+    long[] toArray();
+
+    /**
+     * Gets an iterator of the elements of this set.
+     * The order of elements is undefined.
+     *
+     * @return Primitive iterator
+     */
+    @Nonnull
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Passes every element of this set to given action.
+     *
+     * @param action Action to perform
+     */
+    void forEach(@Nonnull LongConsumer action);
+
+    /**
+     * Converts this set into a stream.
+     *
+     * @return {@link LongStream}
+     */
+    @Nonnull
+    LongStream stream();
+
+    /**
+     * Filters this set by given filter.
+     *
+     * @param filter Filter to apply
+     * @return Filtered set
+     */
+    @Nonnull
+    TLongSet filter(@Nonnull LongPredicate filter);
+
+    /**
+     * Maps this set using given mapper.
+     * Elements which map to the same value are merged.
+     *
+     * @param mapper Mapper to use
+     * @return Mapped set
+     */
+    @Nonnull
+    TLongSet map(@Nonnull LongUnaryOperator mapper);
+
+    /**
+     * Converts this set to a list.
+     *
+     * @return Converted list
+     */
+    @Nonnull
+    TLongList list();
+}
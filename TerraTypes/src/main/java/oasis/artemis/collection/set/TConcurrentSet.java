@@ -0,0 +1,147 @@
+package oasis.artemis.collection.set;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>TConcurrentSet</h2>
+ * <p>A thread-safe {@link TSet} backed by a {@link ConcurrentHashMap}.</p>
+ * <p>
+ * Reads never lock, and iterators are weakly consistent:
+ * they never throw {@link java.util.ConcurrentModificationException},
+ * and may or may not reflect modifications made after their creation.
+ * {@code null} elements are not supported.
+ * </p>
+ */
+public class TConcurrentSet<E> extends AbstractSet<E> implements TSet<E> {
+    /**
+     * Creates a new empty TConcurrentSet.
+     */
+    public TConcurrentSet() {
+        this.set = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Creates a new TConcurrentSet containing given entries.
+     *
+     * @param entries Entries
+     */
+    @SafeVarargs
+    public TConcurrentSet(@Nonnull E... entries) {
+        this(Set.of(entries));
+    }
+
+    /**
+     * Creates a new TConcurrentSet from a collection.
+     * Duplicate data will be lost.
+     *
+     * @param collection Collection
+     */
+    public TConcurrentSet(@Nonnull Collection<? extends E> collection) {
+        this.set = ConcurrentHashMap.newKeySet(collection.size());
+        set.addAll(collection);
+    }
+
+    @Nonnull
+    @Override
+    public TSet<E> filter(@Nonnull Predicate<E> filter) {
+        final TSet<E> result = new TConcurrentSet<>();
+        for (E e : set) {
+            if (filter.test(e)) result.add(e);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TSet<F> filter(@Nonnull Class<F> subtype) {
+        final TSet<F> result = new TConcurrentSet<>();
+        for (E e : set) {
+            if (subtype.isInstance(e)) result.add(subtype.cast(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TSet<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        final TSet<F> result = new TConcurrentSet<>();
+        for (E e : set) {
+            result.add(mapper.apply(e));
+        }
+
+        return result;
+    }
+
+    @Override
+    public TList<E> list() {
+        return new TArray<>(set);
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        return set.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return set.spliterator();
+    }
+
+    @Override
+    public void forEach(@Nonnull Consumer<? super E> action) {
+        set.forEach(action);
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return set.add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return set.remove(o);
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull Predicate<? super E> filter) {
+        return set.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        set.clear();
+    }
+
+    @Nonnull
+    private final Set<E> set;
+}
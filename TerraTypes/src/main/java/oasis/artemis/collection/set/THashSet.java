@@ -11,7 +11,6 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * <h2>THashSet</h2>
@@ -65,19 +64,34 @@ public class THashSet<E> extends HashSet<E> implements TSet<E> {
     @Nonnull
     @Override
     public TSet<E> filter(@Nonnull Predicate<E> filter) {
-        return new THashSet<>(stream().filter(filter).collect(Collectors.toList()));
+        final TSet<E> result = new THashSet<>();
+        for (E e : this) {
+            if (filter.test(e)) result.add(e);
+        }
+
+        return result;
     }
 
     @Nonnull
     @Override
     public <F extends E> TSet<F> filter(@Nonnull Class<F> subtype) {
-        return new THashSet<>(filter(subtype::isInstance).map(subtype::cast));
+        final TSet<F> result = new THashSet<>();
+        for (E e : this) {
+            if (subtype.isInstance(e)) result.add(subtype.cast(e));
+        }
+
+        return result;
     }
 
     @Nonnull
     @Override
     public <F extends E> TSet<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
-        return new THashSet<>(stream().map(mapper).collect(Collectors.toList()));
+        final TSet<F> result = new THashSet<>(Math.max(16, (int) (size() / 0.75f) + 1));
+        for (E e : this) {
+            result.add(mapper.apply(e));
+        }
+
+        return result;
     }
 
     @Override
@@ -0,0 +1,216 @@
+package oasis.artemis.collection.set;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.map.TPersistentMap;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>TPersistentSet</h2>
+ * <p>
+ * An immutable {@link TSet} backed by a {@link TPersistentMap}.
+ * </p>
+ * <p>
+ * Instead of being modified, a persistent set creates a new version of itself with
+ * {@link TPersistentSet#plus(Object)} and {@link TPersistentSet#minus(Object)} in O(log n),
+ * sharing most of its structure with the previous version.
+ * Since no version can ever change, taking a snapshot is free.
+ * </p>
+ * <p>
+ * Every method which would modify this set in place throws an {@link UnsupportedOperationException}.
+ * {@code null} elements are not supported.
+ * </p>
+ */
+public final class TPersistentSet<E> extends AbstractSet<E> implements TSet<E>, Serializable {
+    /**
+     * Gets the empty persistent set.
+     *
+     * @param <E> Type of element
+     * @return Empty set
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <E> TPersistentSet<E> empty() {
+        return (TPersistentSet<E>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent set containing every element of given collection.
+     * Duplicate data will be lost.
+     *
+     * @param collection Collection to copy
+     * @param <E>        Type of element
+     * @return Persistent set
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <E> TPersistentSet<E> copyOf(@Nonnull Collection<? extends E> collection) {
+        if (collection instanceof TPersistentSet<?> persistent) return (TPersistentSet<E>) persistent;
+
+        final TPersistentSet<E> empty = empty();
+        return empty.plusAll(collection);
+    }
+
+    private TPersistentSet(@Nonnull TPersistentMap<E, Boolean> map) {
+        this.map = map;
+    }
+
+    /**
+     * Returns a new version of this set with given element.
+     *
+     * @param element Element to add
+     * @return New set, or this set if it already contains the element
+     */
+    @Nonnull
+    public TPersistentSet<E> plus(@Nonnull E element) {
+        if (map.containsKey(element)) return this;
+
+        final TPersistentMap<E, Boolean> newMap = map.plus(element, Boolean.TRUE);
+        return newMap == map ? this : new TPersistentSet<>(newMap);
+    }
+
+    /**
+     * Returns a new version of this set without given element.
+     *
+     * @param element Element to remove
+     * @return New set, or this set if it does not contain the element
+     */
+    @Nonnull
+    public TPersistentSet<E> minus(@Nonnull Object element) {
+        final TPersistentMap<E, Boolean> newMap = map.minus(element);
+        return newMap == map ? this : new TPersistentSet<>(newMap);
+    }
+
+    /**
+     * Returns a new version of this set with every given element.
+     * Large batches rebuild the backing map in a single pass, see {@link TPersistentMap#plusAll(Map)}.
+     *
+     * @param elements Elements to add
+     * @return New set, or this set if it already contains every element
+     */
+    @Nonnull
+    public TPersistentSet<E> plusAll(@Nonnull Collection<? extends E> elements) {
+        final TPersistentMap<E, Boolean> newMap = map.plusAll(elements, Boolean.TRUE);
+        return newMap.size() == map.size() ? this : new TPersistentSet<>(newMap);
+    }
+
+    /**
+     * Returns a new version of this set without any of given elements.
+     *
+     * @param elements Elements to remove
+     * @return New set, or this set if it contains none of the elements
+     * @see TPersistentMap#minusAll(Collection)
+     */
+    @Nonnull
+    public TPersistentSet<E> minusAll(@Nonnull Collection<?> elements) {
+        final TPersistentMap<E, Boolean> newMap = map.minusAll(elements);
+        return newMap == map ? this : new TPersistentSet<>(newMap);
+    }
+
+    @Nonnull
+    @Override
+    public TPersistentSet<E> filter(@Nonnull Predicate<E> filter) {
+        TPersistentSet<E> result = this;
+        for (E e : this) {
+            if (!filter.test(e)) result = result.minus(e);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TPersistentSet<F> filter(@Nonnull Class<F> subtype) {
+        TPersistentSet<F> result = empty();
+        for (E e : this) {
+            if (subtype.isInstance(e)) result = result.plus(subtype.cast(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TPersistentSet<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        TPersistentSet<F> result = empty();
+        for (E e : this) {
+            result = result.plus(mapper.apply(e));
+        }
+
+        return result;
+    }
+
+    @Override
+    public TList<E> list() {
+        return new TArray<>(this);
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        return map.keySet().iterator();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return map.containsKey(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(@Nonnull Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(@Nonnull Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(@Nonnull Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final TPersistentSet<?> EMPTY = new TPersistentSet<>(TPersistentMap.empty());
+
+    @Nonnull
+    private final TPersistentMap<E, Boolean> map;
+}
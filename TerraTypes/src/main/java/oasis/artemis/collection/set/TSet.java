@@ -1,6 +1,7 @@
 package oasis.artemis.collection.set;
 
 import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.TParallel;
 import oasis.artemis.collection.list.TList;
 
 import javax.annotation.Nonnegative;
@@ -8,6 +9,7 @@ import javax.annotation.Nonnull;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * <h2>TSet</h2>
@@ -33,4 +35,18 @@ public interface TSet<E> extends TCollection<E>, Set<E> {
     @Nonnull
     @Override
     <F extends E> TSet<F> map(@Nonnull Function<? super E, ? extends F> mapper);
+
+    @Nonnull
+    @Override
+    default TSet<E> parallelFilter(@Nonnull Predicate<E> filter) {
+        if (!TParallel.isParallel(size())) return filter(filter);
+        return parallelStream().filter(filter).collect(Collectors.toCollection(THashSet::new));
+    }
+
+    @Nonnull
+    @Override
+    default <F extends E> TSet<F> parallelMap(@Nonnull Function<? super E, ? extends F> mapper) {
+        if (!TParallel.isParallel(size())) return map(mapper);
+        return parallelStream().<F>map(mapper).collect(Collectors.toCollection(THashSet::new));
+    }
 }
@@ -0,0 +1,121 @@
+package oasis.artemis.collection.set;
+
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>TSetView</h2>
+ * <p>
+ * A live view of another set.
+ * Changes to either set are reflected in the other.
+ * This is used to expose sets such as {@link java.util.Map#keySet()} as a {@link TSet} without copying.
+ * </p>
+ *
+ * @param <E> Type of element
+ */
+public final class TSetView<E> extends AbstractSet<E> implements TSet<E> {
+    /**
+     * Creates a new live view of given set.
+     *
+     * @param set Set to wrap
+     */
+    public TSetView(@Nonnull Set<E> set) {
+        this.set = set;
+    }
+
+    @Override
+    public TList<E> list() {
+        return new TArray<>(set);
+    }
+
+    @Nonnull
+    @Override
+    public TSet<E> filter(@Nonnull Predicate<E> filter) {
+        final TSet<E> result = new THashSet<>();
+        for (E e : set) {
+            if (filter.test(e)) result.add(e);
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TSet<F> filter(@Nonnull Class<F> subtype) {
+        final TSet<F> result = new THashSet<>();
+        for (E e : set) {
+            if (subtype.isInstance(e)) result.add(subtype.cast(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <F extends E> TSet<F> map(@Nonnull Function<? super E, ? extends F> mapper) {
+        final TSet<F> result = new THashSet<>();
+        for (E e : set) {
+            result.add(mapper.apply(e));
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        return set.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return set.spliterator();
+    }
+
+    @Override
+    public void forEach(@Nonnull Consumer<? super E> action) {
+        set.forEach(action);
+    }
+
+    @Override
+    public int size() {
+        return set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return set.remove(o);
+    }
+
+    @Override
+    public boolean removeIf(@Nonnull Predicate<? super E> filter) {
+        return set.removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        set.clear();
+    }
+
+    @Nonnull
+    private final Set<E> set;
+}
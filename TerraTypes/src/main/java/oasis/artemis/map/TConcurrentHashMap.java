@@ -0,0 +1,232 @@
+package oasis.artemis.map;
+
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.TCollectionView;
+import oasis.artemis.collection.set.TSet;
+import oasis.artemis.collection.set.TSetView;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * <h2>TConcurrentHashMap</h2>
+ * <p>A thread-safe {@link TMap} backed by a {@link ConcurrentHashMap}.</p>
+ * <p>
+ * This delegates to a {@link ConcurrentHashMap} instead of extending it,
+ * since {@link ConcurrentHashMap#keySet()} cannot be overridden to return a {@link TSet}.
+ * Reads never lock, and the atomic operations of {@link ConcurrentMap} are preserved.
+ * {@link TConcurrentHashMap#getOrDefaultPointer(Object, Object)} is atomic.
+ * </p>
+ * <p>
+ * {@code null} keys and values are not supported.
+ * </p>
+ */
+public class TConcurrentHashMap<K, V> extends AbstractMap<K, V> implements TMap<K, V>, ConcurrentMap<K, V> {
+    /**
+     * Creates a new empty TConcurrentHashMap.
+     */
+    public TConcurrentHashMap() {
+        this.map = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a new TConcurrentHashMap with given initial capacity.
+     *
+     * @param initialCapacity Initial capacity
+     */
+    public TConcurrentHashMap(@Nonnegative int initialCapacity) {
+        this.map = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    /**
+     * Creates a new TConcurrentHashMap from a {@link Map}.
+     *
+     * @param map Map
+     */
+    public TConcurrentHashMap(@Nonnull Map<? extends K, ? extends V> map) {
+        this.map = new ConcurrentHashMap<>(map);
+    }
+
+    @Nonnull
+    @Override
+    public V getOrDefaultPointer(@Nonnull K key, @Nonnull V value) {
+        final V existing = map.putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    @Override
+    public TSet<K> keySet() {
+        return new TSetView<>(map.keySet());
+    }
+
+    @Override
+    public TSet<Entry<K, V>> entrySet() {
+        return new TSetView<>(map.entrySet());
+    }
+
+    @Override
+    public TCollection<V> values() {
+        return new TCollectionView<>(map.values());
+    }
+
+    @Nonnull
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return map.entrySet().stream();
+    }
+
+    @Nonnull
+    @Override
+    public TMap<K, V> filter(@Nonnull Predicate<Entry<K, V>> filter) {
+        final TMap<K, V> result = new TConcurrentHashMap<>();
+        for (Entry<K, V> entry : map.entrySet()) {
+            if (filter.test(entry)) result.put(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <L extends K, W extends V> TMap<L, W> filter(@Nonnull Class<L> subKey, @Nonnull Class<W> subValue) {
+        final TMap<L, W> result = new TConcurrentHashMap<>();
+        map.forEach((key, value) -> {
+            if (subKey.isInstance(key) && subValue.isInstance(value)) {
+                result.put(subKey.cast(key), subValue.cast(value));
+            }
+        });
+
+        return result;
+    }
+
+    //
+    // Delegates
+    //
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return map.put(key, value);
+    }
+
+    @Override
+    public void putAll(@Nonnull Map<? extends K, ? extends V> m) {
+        map.putAll(m);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return map.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public V putIfAbsent(@Nonnull K key, V value) {
+        return map.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(@Nonnull Object key, Object value) {
+        return map.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(@Nonnull K key, @Nonnull V oldValue, @Nonnull V newValue) {
+        return map.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(@Nonnull K key, @Nonnull V value) {
+        return map.replace(key, value);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, @Nonnull Function<? super K, ? extends V> mappingFunction) {
+        return map.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, @Nonnull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return map.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(K key, @Nonnull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return map.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, @Nonnull V value, @Nonnull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return map.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(@Nonnull BiConsumer<? super K, ? super V> action) {
+        map.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(@Nonnull BiFunction<? super K, ? super V, ? extends V> function) {
+        map.replaceAll(function);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    @Nonnull
+    private final ConcurrentHashMap<K, V> map;
+}
@@ -1,16 +1,14 @@
 package oasis.artemis.map;
 
 import oasis.artemis.collection.TCollection;
-import oasis.artemis.collection.list.TArray;
-import oasis.artemis.collection.list.TList;
-import oasis.artemis.collection.set.THashSet;
+import oasis.artemis.collection.TCollectionView;
 import oasis.artemis.collection.set.TSet;
+import oasis.artemis.collection.set.TSetView;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.validation.constraints.Positive;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -18,6 +16,10 @@ import java.util.stream.Stream;
 /**
  * <h2>THashMap</h2>
  * <p>A specialized version of {@link HashMap} used in Terra modules.</p>
+ * <p>
+ * {@link THashMap#keySet()}, {@link THashMap#entrySet()} and {@link THashMap#values()}
+ * return live views backed by this map, and do not copy.
+ * </p>
  */
 public class THashMap<K, V> extends HashMap<K, V> implements TMap<K, V> {
     /**
@@ -74,41 +76,47 @@ public class THashMap<K, V> extends HashMap<K, V> implements TMap<K, V> {
 
     @Override
     public TSet<K> keySet() {
-        return new THashSet<>(super.keySet());
+        return new TSetView<>(super.keySet());
     }
 
     @Override
     public TSet<Entry<K, V>> entrySet() {
-        return new THashSet<>(super.entrySet());
+        return new TSetView<>(super.entrySet());
     }
 
     @Override
     public TCollection<V> values() {
-        return new TArray<>(super.values());
+        return new TCollectionView<>(super.values());
     }
 
     @Nonnull
     @Override
     public Stream<Entry<K, V>> stream() {
-        return entrySet().stream();
+        return super.entrySet().stream();
     }
 
     @Nonnull
     @Override
     public TMap<K, V> filter(@Nonnull Predicate<Entry<K, V>> filter) {
-        return new THashMap<>(entrySet().filter(filter));
+        final TMap<K, V> result = new THashMap<>();
+        for (Entry<K, V> entry : super.entrySet()) {
+            if (filter.test(entry)) result.put(entry.getKey(), entry.getValue());
+        }
+
+        return result;
     }
 
     @Nonnull
     @Override
     public <L extends K, W extends V> TMap<L, W> filter(@Nonnull Class<L> subKey, @Nonnull Class<W> subValue) {
-        final TSet<L> keys = keySet().filter(subKey);
-        final TList<W> values = new TArray<>(values().filter(subValue));
-
         final TMap<L, W> result = new THashMap<>();
-        final Iterator<L> keyIterator = keys.iterator();
-        for (int i = 0; i < keys.size(); i++) {
-            result.put(keyIterator.next(), values.get(i));
+        for (Entry<K, V> entry : super.entrySet()) {
+            final K key = entry.getKey();
+            final V value = entry.getValue();
+
+            if (subKey.isInstance(key) && subValue.isInstance(value)) {
+                result.put(subKey.cast(key), subValue.cast(value));
+            }
         }
 
         return result;
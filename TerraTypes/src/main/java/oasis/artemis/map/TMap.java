@@ -34,8 +34,8 @@ public interface TMap<K, V> extends Map<K, V> {
     V getOrDefaultPointer(@Nonnull K key, @Nonnull V value);
 
     /**
-     * This delegates to {@link Map#keySet()},
-     * then converts the return value into a TSet.
+     * Gets a live view of the keys of this map.
+     * Changes to this map are reflected in the view, and vice versa.
      *
      * @return {@link TSet}
      */
@@ -43,8 +43,8 @@ public interface TMap<K, V> extends Map<K, V> {
     TSet<K> keySet();
 
     /**
-     * This delegates to {@link Map#entrySet()},
-     * then converts the return value into a TSet.
+     * Gets a live view of the entries of this map.
+     * Changes to this map are reflected in the view, and vice versa.
      *
      * @return {@link TSet}
      */
@@ -52,8 +52,8 @@ public interface TMap<K, V> extends Map<K, V> {
     TSet<Entry<K, V>> entrySet();
 
     /**
-     * This delegates to {@link Map#values()},
-     * then converts the return value into a TCollection.
+     * Gets a live view of the values of this map.
+     * Changes to this map are reflected in the view, and vice versa.
      *
      * @return {@link TCollection}
      */
@@ -78,10 +78,10 @@ public interface TMap<K, V> extends Map<K, V> {
     TMap<K, V> filter(@Nonnull Predicate<Entry<K, V>> filter);
 
     /**
-     * Gets a filtered map by subtype of entry and key.
+     * Gets a filtered map of the entries whose key and value are both of given subtypes.
      *
-     * @param subKey   Subtype of entry to get
-     * @param subValue Subtype of key to get
+     * @param subKey   Subtype of key to get
+     * @param subValue Subtype of value to get
      * @param <L>      Subtype of {@link K}
      * @param <W>      Subtype of {@link V}
      * @return Filtered map
@@ -0,0 +1,827 @@
+package oasis.artemis.map;
+
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.TCollectionView;
+import oasis.artemis.collection.set.TSet;
+import oasis.artemis.collection.set.TSetView;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * <h2>TPersistentMap</h2>
+ * <p>
+ * An immutable {@link TMap} implemented as a hash array mapped trie (HAMT).
+ * </p>
+ * <p>
+ * Instead of being modified, a persistent map creates a new version of itself with
+ * {@link TPersistentMap#plus(Object, Object)} and {@link TPersistentMap#minus(Object)}.
+ * Each new version only copies the path from the root to the changed entry (O(log n)),
+ * and shares the rest of its structure with the previous version.
+ * Since no version can ever change, taking a snapshot is free.
+ * </p>
+ * <p>
+ * Every method which would modify this map in place throws an {@link UnsupportedOperationException}.
+ * {@code null} keys and values are not supported.
+ * </p>
+ */
+public final class TPersistentMap<K, V> extends AbstractMap<K, V> implements TMap<K, V>, Serializable {
+    /**
+     * Gets the empty persistent map.
+     *
+     * @param <K> Type of key
+     * @param <V> Type of value
+     * @return Empty map
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <K, V> TPersistentMap<K, V> empty() {
+        return (TPersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent map containing every entry of given map.
+     *
+     * @param map Map to copy
+     * @param <K> Type of key
+     * @param <V> Type of value
+     * @return Persistent map
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <K, V> TPersistentMap<K, V> copyOf(@Nonnull Map<? extends K, ? extends V> map) {
+        if (map instanceof TPersistentMap<?, ?> persistent) return (TPersistentMap<K, V>) persistent;
+
+        final TPersistentMap<K, V> empty = empty();
+        return empty.plusAll(map);
+    }
+
+    private TPersistentMap(@Nullable Node root, @Nonnegative int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    //
+    // Persistent operations
+    //
+
+    /**
+     * Returns a new version of this map with given entry.
+     *
+     * @param key   Key
+     * @param value Value
+     * @return New map, or this map if it already contains the entry
+     */
+    @Nonnull
+    public TPersistentMap<K, V> plus(@Nonnull K key, @Nonnull V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        final boolean[] added = new boolean[1];
+        final Node base = root == null ? BitmapNode.EMPTY : root;
+        final Node newRoot = base.put(0, hash(key), key, value, added);
+
+        if (newRoot == root) return this;
+        return new TPersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a new version of this map without given key.
+     *
+     * @param key Key to remove
+     * @return New map, or this map if it does not contain the key
+     */
+    @Nonnull
+    public TPersistentMap<K, V> minus(@Nonnull Object key) {
+        if (root == null) return this;
+
+        final Node newRoot = root.remove(0, hash(key), key);
+        if (newRoot == root) return this;
+
+        return newRoot == null ? empty() : new TPersistentMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns a new version of this map with every entry of given map.
+     * Small batches are added one by one.
+     * Batches which are large relative to this map rebuild the trie bottom-up in a single pass,
+     * which creates every node exactly once instead of copying a path per entry.
+     *
+     * @param map Entries to add
+     * @return New map, or this map if the batch is empty
+     */
+    @Nonnull
+    public TPersistentMap<K, V> plusAll(@Nonnull Map<? extends K, ? extends V> map) {
+        final Object[] keys = new Object[map.size()];
+        final Object[] values = new Object[map.size()];
+
+        int count = 0;
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keys[count] = Objects.requireNonNull(entry.getKey());
+            values[count] = Objects.requireNonNull(entry.getValue());
+            count++;
+        }
+
+        return plusAll(keys, values, count);
+    }
+
+    /**
+     * Returns a new version of this map with every given key mapped to given value.
+     *
+     * @param keys  Keys to add
+     * @param value Value of every key
+     * @return New map, or this map if the batch is empty
+     * @see TPersistentMap#plusAll(Map)
+     */
+    @Nonnull
+    public TPersistentMap<K, V> plusAll(@Nonnull Collection<? extends K> keys, @Nonnull V value) {
+        Objects.requireNonNull(value);
+
+        final Object[] keyArray = new Object[keys.size()];
+        final Object[] values = new Object[keys.size()];
+
+        int count = 0;
+        for (K key : keys) {
+            keyArray[count] = Objects.requireNonNull(key);
+            values[count] = value;
+            count++;
+        }
+
+        return plusAll(keyArray, values, count);
+    }
+
+    /**
+     * Returns a new version of this map without any of given keys.
+     * Like {@link TPersistentMap#plusAll(Map)}, large batches rebuild the trie in a single pass.
+     *
+     * @param keys Keys to remove
+     * @return New map, or this map if it contains none of the keys
+     */
+    @Nonnull
+    public TPersistentMap<K, V> minusAll(@Nonnull Collection<?> keys) {
+        if (root == null || keys.isEmpty()) return this;
+
+        if (!isBulk(keys.size())) {
+            TPersistentMap<K, V> result = this;
+            for (Object key : keys) result = result.minus(key);
+            return result;
+        }
+
+        final Collection<?> removed = keys instanceof Set<?> ? keys : new HashSet<>(keys);
+        final Object[] keyArray = new Object[size];
+        final Object[] values = new Object[size];
+        final int[] count = new int[1];
+
+        root.forEach((k, v) -> {
+            if (removed.contains(k)) return;
+
+            keyArray[count[0]] = k;
+            values[count[0]] = v;
+            count[0]++;
+        });
+
+        return count[0] == size ? this : build(keyArray, values, count[0]);
+    }
+
+    //
+    // Lookup
+    //
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return root == null || key == null ? null : (V) root.get(0, hash(key), key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        final V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Persistent maps cannot be modified in place.
+     * Use {@link TPersistentMap#plus(Object, Object)} instead.
+     *
+     * @param key   Key to query
+     * @param value Default value to use
+     * @return Value of the key if found
+     * @throws UnsupportedOperationException When the key is not found
+     */
+    @Nonnull
+    @Override
+    public V getOrDefaultPointer(@Nonnull K key, @Nonnull V value) throws UnsupportedOperationException {
+        final V existing = get(key);
+        if (existing == null) throw new UnsupportedOperationException();
+        return existing;
+    }
+
+    @Override
+    public void forEach(@Nonnull BiConsumer<? super K, ? super V> action) {
+        if (root != null) root.forEach(action);
+    }
+
+    //
+    // Views
+    //
+
+    @Override
+    public TSet<K> keySet() {
+        return new TSetView<>(new AbstractSet<>() {
+            @Nonnull
+            @Override
+            public Iterator<K> iterator() {
+                final Iterator<Entry<K, V>> iterator = new EntryIterator<>(root);
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public K next() {
+                        return iterator.next().getKey();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        });
+    }
+
+    @Override
+    public TSet<Entry<K, V>> entrySet() {
+        return new TSetView<>(new AbstractSet<>() {
+            @Nonnull
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        });
+    }
+
+    @Override
+    public TCollection<V> values() {
+        return new TCollectionView<>(new AbstractCollection<>() {
+            @Nonnull
+            @Override
+            public Iterator<V> iterator() {
+                final Iterator<Entry<K, V>> iterator = new EntryIterator<>(root);
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public V next() {
+                        return iterator.next().getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        });
+    }
+
+    @Nonnull
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return entrySet().stream();
+    }
+
+    @Nonnull
+    @Override
+    public TPersistentMap<K, V> filter(@Nonnull Predicate<Entry<K, V>> filter) {
+        TPersistentMap<K, V> result = this;
+        for (Entry<K, V> entry : entrySet()) {
+            if (!filter.test(entry)) result = result.minus(entry.getKey());
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <L extends K, W extends V> TPersistentMap<L, W> filter(@Nonnull Class<L> subKey, @Nonnull Class<W> subValue) {
+        TPersistentMap<L, W> result = empty();
+        for (Entry<K, V> entry : entrySet()) {
+            final K key = entry.getKey();
+            final V value = entry.getValue();
+
+            if (subKey.isInstance(key) && subValue.isInstance(value)) {
+                result = result.plus(subKey.cast(key), subValue.cast(value));
+            }
+        }
+
+        return result;
+    }
+
+    //
+    // Unsupported
+    //
+
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(@Nonnull Map<? extends K, ? extends V> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Adds a batch of entries, later entries replacing earlier ones with equal keys
+    @Nonnull
+    private TPersistentMap<K, V> plusAll(@Nonnull Object[] keys, @Nonnull Object[] values, @Nonnegative int count) {
+        if (count == 0) return this;
+
+        if (!isBulk(count)) {
+            TPersistentMap<K, V> result = this;
+            for (int i = 0; i < count; i++) result = result.plus(key(keys[i]), value(values[i]));
+            return result;
+        }
+
+        // Existing entries go first, so that the batch replaces them
+        final Object[] allKeys = new Object[size + count];
+        final Object[] allValues = new Object[size + count];
+        final int[] index = new int[1];
+
+        forEach((k, v) -> {
+            allKeys[index[0]] = k;
+            allValues[index[0]] = v;
+            index[0]++;
+        });
+
+        System.arraycopy(keys, 0, allKeys, size, count);
+        System.arraycopy(values, 0, allValues, size, count);
+
+        return build(allKeys, allValues, size + count);
+    }
+
+    // Whether a batch is large enough to rebuild this map instead of modifying it entry by entry
+    private boolean isBulk(@Nonnegative int count) {
+        return count >= BULK_THRESHOLD && count >= size / BULK_RATIO;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(@Nonnull Object key) {
+        return (K) key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(@Nonnull Object value) {
+        return (V) value;
+    }
+
+    // Builds a trie bottom-up, later entries replacing earlier ones with equal keys
+    @Nonnull
+    private static <K, V> TPersistentMap<K, V> build(@Nonnull Object[] keys, @Nonnull Object[] values, @Nonnegative int count) {
+        if (count == 0) return empty();
+
+        // Sort by hash fragments, lowest fragment first, so that every subtree is a contiguous range
+        final int[] hashes = new int[count];
+        final long[] order = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            hashes[i] = hash(keys[i]);
+            order[i] = ((long) (fragmentOrder(hashes[i]) ^ Integer.MIN_VALUE) << 32) | i;
+        }
+
+        Arrays.sort(order);
+
+        final int[] size = new int[1];
+        final Node root = new Builder(keys, values, hashes, order).build(0, count, 0, size);
+
+        return new TPersistentMap<>(root, size[0]);
+    }
+
+    // Reverses the order of the 5-bit fragments of a hash, so that sorting groups hashes by their lowest fragments
+    private static int fragmentOrder(int hash) {
+        int result = 0;
+        for (int shift = 0; shift < 30; shift += 5) {
+            result = (result << 5) | ((hash >>> shift) & 31);
+        }
+
+        return (result << 2) | (hash >>> 30);
+    }
+
+    // Builds the nodes of a trie from entries sorted by fragment order
+    private record Builder(
+            @Nonnull Object[] keys,
+            @Nonnull Object[] values,
+            @Nonnull int[] hashes,
+            @Nonnull long[] order
+    ) {
+        // Builds the node of a range of sorted entries, which share every fragment below given shift
+        @Nonnull
+        private Node build(int from, int to, int shift, @Nonnull int[] size) {
+            int fragments = 0;
+            for (int i = from; i < to; i = end(i, to, shift)) fragments++;
+
+            final Object[] array = new Object[fragments * 2];
+            int bitmap = 0;
+            int j = 0;
+
+            for (int i = from; i < to; ) {
+                final int end = end(i, to, shift);
+                final int first = index(i);
+
+                bitmap |= bit(hashes[first], shift);
+
+                if (end - i == 1) {
+                    array[j] = keys[first];
+                    array[j + 1] = values[first];
+                    size[0]++;
+                } else if (hashes[first] == hashes[index(end - 1)]) {
+                    // Equal fragment orders mean equal hashes, so every entry of the range has the same hash
+                    final Object[] entries = collide(i, end);
+
+                    if (entries.length == 2) {
+                        array[j] = entries[0];
+                        array[j + 1] = entries[1];
+                    } else {
+                        array[j + 1] = new CollisionNode(hashes[first], entries);
+                    }
+
+                    size[0] += entries.length / 2;
+                } else {
+                    array[j + 1] = build(i, end, shift + 5, size);
+                }
+
+                j += 2;
+                i = end;
+            }
+
+            return new BitmapNode(bitmap, array);
+        }
+
+        // Gets the end of the range of entries which share the fragment of the entry at given position
+        private int end(int from, int to, int shift) {
+            final int fragment = (hashes[index(from)] >>> shift) & 31;
+
+            int end = from + 1;
+            while (end < to && ((hashes[index(end)] >>> shift) & 31) == fragment) end++;
+
+            return end;
+        }
+
+        // Gets the distinct entries of a range with equal hashes, later entries replacing earlier ones
+        @Nonnull
+        private Object[] collide(int from, int to) {
+            final Object[] entries = new Object[(to - from) * 2];
+            int length = 0;
+
+            outer:
+            for (int i = from; i < to; i++) {
+                final int index = index(i);
+
+                for (int k = 0; k < length; k += 2) {
+                    if (entries[k].equals(keys[index])) {
+                        entries[k + 1] = values[index];
+                        continue outer;
+                    }
+                }
+
+                entries[length] = keys[index];
+                entries[length + 1] = values[index];
+                length += 2;
+            }
+
+            return length == entries.length ? entries : Arrays.copyOf(entries, length);
+        }
+
+        // Gets the index of the entry at given sorted position
+        private int index(int position) {
+            return (int) order[position];
+        }
+    }
+
+    // Spreads the hash of a key
+    private static int hash(@Nonnull Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    // Gets the bit of a hash at given shift
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    // A node of the trie
+    private interface Node extends Serializable {
+        @Nullable
+        Object get(int shift, int hash, @Nonnull Object key);
+
+        @Nonnull
+        Node put(int shift, int hash, @Nonnull Object key, @Nonnull Object value, @Nonnull boolean[] added);
+
+        // Returns null if the node became empty
+        @Nullable
+        Node remove(int shift, int hash, @Nonnull Object key);
+
+        <K, V> void forEach(@Nonnull BiConsumer<? super K, ? super V> action);
+
+        // Pairs of keys and values, where a null key means the value is a child node
+        @Nonnull
+        Object[] array();
+    }
+
+    // A node which maps up to 32 hash fragments to entries or child nodes
+    private record BitmapNode(int bitmap, @Nonnull Object[] array) implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        @Nullable
+        @Override
+        public Object get(int shift, int hash, @Nonnull Object key) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) return null;
+
+            final int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            final Object k = array[i];
+
+            if (k == null) return ((Node) array[i + 1]).get(shift + 5, hash, key);
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        @Nonnull
+        @Override
+        public Node put(int shift, int hash, @Nonnull Object key, @Nonnull Object value, @Nonnull boolean[] added) {
+            final int bit = bit(hash, shift);
+            final int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+
+            if ((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = value;
+                System.arraycopy(array, i, newArray, i + 2, array.length - i);
+
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            final Object k = array[i];
+            final Object v = array[i + 1];
+
+            if (k == null) {
+                final Node child = ((Node) v).put(shift + 5, hash, key, value, added);
+                return child == v ? this : with(i + 1, child);
+            }
+
+            if (key.equals(k)) {
+                return value == v ? this : with(i + 1, value);
+            }
+
+            added[0] = true;
+            final Node child = createNode(shift + 5, k, v, hash, key, value);
+
+            final Object[] newArray = array.clone();
+            newArray[i] = null;
+            newArray[i + 1] = child;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(int shift, int hash, @Nonnull Object key) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) return this;
+
+            final int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            final Object k = array[i];
+
+            if (k == null) {
+                final Node child = (Node) array[i + 1];
+                final Node newChild = child.remove(shift + 5, hash, key);
+
+                if (newChild == child) return this;
+                if (newChild != null) return with(i + 1, newChild);
+            } else if (!key.equals(k)) {
+                return this;
+            }
+
+            if (bitmap == bit) return null;
+
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new BitmapNode(bitmap & ~bit, newArray);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> void forEach(@Nonnull BiConsumer<? super K, ? super V> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) ((Node) array[i + 1]).forEach(action);
+                else action.accept((K) array[i], (V) array[i + 1]);
+            }
+        }
+
+        // Copies this node with given slot replaced
+        @Nonnull
+        private BitmapNode with(int index, @Nonnull Object value) {
+            final Object[] newArray = array.clone();
+            newArray[index] = value;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        // Creates a node containing two entries
+        @Nonnull
+        private static Node createNode(int shift, @Nonnull Object k1, @Nonnull Object v1, int h2, @Nonnull Object k2, @Nonnull Object v2) {
+            final int h1 = hash(k1);
+            if (h1 == h2) return new CollisionNode(h1, new Object[]{k1, v1, k2, v2});
+
+            final boolean[] added = new boolean[1];
+            return EMPTY.put(shift, h1, k1, v1, added).put(shift, h2, k2, v2, added);
+        }
+    }
+
+    // A node of entries whose keys have the exact same hash
+    private record CollisionNode(int hash, @Nonnull Object[] array) implements Node {
+        @Nullable
+        @Override
+        public Object get(int shift, int hash, @Nonnull Object key) {
+            final int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Nonnull
+        @Override
+        public Node put(int shift, int hash, @Nonnull Object key, @Nonnull Object value, @Nonnull boolean[] added) {
+            if (hash != this.hash) {
+                // Nest this node under a bitmap node, then add the entry beside it
+                return new BitmapNode(bit(this.hash, shift), new Object[]{null, this}).put(shift, hash, key, value, added);
+            }
+
+            final int i = indexOf(key);
+
+            if (i >= 0) {
+                if (array[i + 1] == value) return this;
+
+                final Object[] newArray = array.clone();
+                newArray[i + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+
+            final Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Nullable
+        @Override
+        public Node remove(int shift, int hash, @Nonnull Object key) {
+            final int i = indexOf(key);
+            if (i < 0) return this;
+            if (array.length == 2) return null;
+
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> void forEach(@Nonnull BiConsumer<? super K, ? super V> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept((K) array[i], (V) array[i + 1]);
+            }
+        }
+
+        private int indexOf(@Nonnull Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) return i;
+            }
+
+            return -1;
+        }
+    }
+
+    // Iterates over the entries of a trie, depth-first
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private EntryIterator(@Nullable Node root) {
+            if (root != null) push(root.array());
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (depth > 0) {
+                final Object[] array = arrays[depth - 1];
+                final int i = indexes[depth - 1];
+
+                if (i >= array.length) {
+                    depth--;
+                } else if (array[i] == null) {
+                    indexes[depth - 1] += 2;
+                    push(((Node) array[i + 1]).array());
+                } else {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            final Object[] array = arrays[depth - 1];
+            final int i = indexes[depth - 1];
+            indexes[depth - 1] += 2;
+
+            return new SimpleImmutableEntry<>((K) array[i], (V) array[i + 1]);
+        }
+
+        private void push(@Nonnull Object[] array) {
+            arrays[depth] = array;
+            indexes[depth] = 0;
+            depth++;
+        }
+
+        // 32-bit hashes are consumed 5 bits per level, plus a level of collision nodes
+        private final Object[][] arrays = new Object[9][];
+        private final int[] indexes = new int[9];
+        private int depth = 0;
+    }
+
+    private static final TPersistentMap<?, ?> EMPTY = new TPersistentMap<>(null, 0);
+    // Batches smaller than this are always added entry by entry
+    private static final int BULK_THRESHOLD = 32;
+    // Batches of at least a quarter of the size of the map rebuild it
+    private static final int BULK_RATIO = 4;
+
+    @Nullable
+    private final Node root;
+    @Nonnegative
+    private final int size;
+}
@@ -0,0 +1,507 @@
+package oasis.artemis.map;
+
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.TCollectionView;
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.collection.set.TSet;
+import oasis.artemis.collection.set.TSetView;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * <h2>TUuidMap</h2>
+ * <p>
+ * A {@link TMap} specialized for {@link UUID} keys, such as unique IDs of objects, worlds and assets.
+ * </p>
+ * <p>
+ * The two halves of each key are stored inline in flat {@code long} arrays,
+ * alongside a flat array of values, using linear probing.
+ * Unlike {@link THashMap}, there is no node object per entry, and lookups never dereference the key.
+ * Removals shift succeeding entries back instead of leaving tombstones.
+ * </p>
+ * <p>
+ * {@code null} keys and values are not supported.
+ * {@link TUuidMap#keySet()}, {@link TUuidMap#entrySet()} and {@link TUuidMap#values()}
+ * are live views backed by this map.
+ * </p>
+ *
+ * @param <V> Type of value
+ */
+public class TUuidMap<V> extends AbstractMap<UUID, V> implements TMap<UUID, V> {
+    /**
+     * Creates a new empty TUuidMap.
+     */
+    public TUuidMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new TUuidMap which can hold given number of entries without resizing.
+     *
+     * @param expectedSize Expected number of entries
+     */
+    public TUuidMap(@Nonnegative int expectedSize) {
+        final int capacity = tableSizeFor(expectedSize);
+
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.values = new Object[capacity];
+        this.size = 0;
+        this.modifications = 0;
+    }
+
+    /**
+     * Creates a new TUuidMap from a {@link Map}.
+     *
+     * @param map Map
+     */
+    public TUuidMap(@Nonnull Map<? extends UUID, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    //
+    // Lookup
+    //
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof UUID id && indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof UUID id)) return null;
+
+        final int index = indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        final V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @Nonnull
+    @Override
+    public V getOrDefaultPointer(@Nonnull UUID key, @Nonnull V value) {
+        final V existing = get(key);
+        if (existing != null) return existing;
+
+        put(key, value);
+        return value;
+    }
+
+    //
+    // Modification
+    //
+
+    @Override
+    public V put(@Nonnull UUID key, @Nonnull V value) {
+        Objects.requireNonNull(value);
+
+        final long msb = key.getMostSignificantBits();
+        final long lsb = key.getLeastSignificantBits();
+        final int mask = values.length - 1;
+
+        for (int i = slot(msb, lsb, mask); ; i = (i + 1) & mask) {
+            if (values[i] == null) {
+                mostSignificantBits[i] = msb;
+                leastSignificantBits[i] = lsb;
+                values[i] = value;
+                modifications++;
+
+                if (++size > values.length * 3 / 4) resize(values.length << 1);
+                return null;
+            }
+
+            if (mostSignificantBits[i] == msb && leastSignificantBits[i] == lsb) {
+                final V previous = valueAt(i);
+                values[i] = value;
+                return previous;
+            }
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof UUID id)) return null;
+
+        final int index = indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (index < 0) return null;
+
+        final V removed = valueAt(index);
+        removeAt(index, null);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        modifications++;
+    }
+
+    //
+    // Views
+    //
+
+    @Override
+    public TSet<UUID> keySet() {
+        return new TSetView<>(new AbstractSet<>() {
+            @Nonnull
+            @Override
+            public Iterator<UUID> iterator() {
+                final EntryIterator iterator = new EntryIterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public UUID next() {
+                        return iterator.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                return TUuidMap.this.remove(o) != null;
+            }
+
+            @Override
+            public void clear() {
+                TUuidMap.this.clear();
+            }
+        });
+    }
+
+    @Override
+    public TSet<Entry<UUID, V>> entrySet() {
+        return new TSetView<>(new AbstractSet<>() {
+            @Nonnull
+            @Override
+            public Iterator<Entry<UUID, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Entry<?, ?> e && e.getValue() != null && e.getValue().equals(get(e.getKey()));
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                return contains(o) && TUuidMap.this.remove(((Entry<?, ?>) o).getKey()) != null;
+            }
+
+            @Override
+            public void clear() {
+                TUuidMap.this.clear();
+            }
+        });
+    }
+
+    @Override
+    public TCollection<V> values() {
+        return new TCollectionView<>(new AbstractCollection<>() {
+            @Nonnull
+            @Override
+            public Iterator<V> iterator() {
+                final EntryIterator iterator = new EntryIterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public V next() {
+                        return iterator.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                TUuidMap.this.clear();
+            }
+        });
+    }
+
+    @Override
+    public void forEach(@Nonnull BiConsumer<? super UUID, ? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) action.accept(keyAt(i), valueAt(i));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Stream<Entry<UUID, V>> stream() {
+        return entrySet().stream();
+    }
+
+    @Nonnull
+    @Override
+    public TMap<UUID, V> filter(@Nonnull Predicate<Entry<UUID, V>> filter) {
+        final TMap<UUID, V> result = new TUuidMap<>();
+        for (Entry<UUID, V> entry : entrySet()) {
+            if (filter.test(entry)) result.put(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    @Nonnull
+    @Override
+    public <L extends UUID, W extends V> TMap<L, W> filter(@Nonnull Class<L> subKey, @Nonnull Class<W> subValue) {
+        final TMap<L, W> result = new THashMap<>();
+        forEach((key, value) -> {
+            if (subKey.isInstance(key) && subValue.isInstance(value)) {
+                result.put(subKey.cast(key), subValue.cast(value));
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Creates a new map containing every entry of given collection, keyed by given function.
+     *
+     * @param values    Values to put
+     * @param keyMapper Function to get the key of a value
+     * @param <V>       Type of value
+     * @return Map of values
+     */
+    @Nonnull
+    public static <V> TUuidMap<V> of(@Nonnull TCollection<V> values, @Nonnull Function<? super V, UUID> keyMapper) {
+        final TUuidMap<V> map = new TUuidMap<>(values.size());
+        values.forEach(v -> map.put(keyMapper.apply(v), v));
+        return map;
+    }
+
+    //
+    // Internal processing
+    //
+
+    // Iterates over the slots of the table, supporting removal
+    private final class EntryIterator implements Iterator<Entry<UUID, V>> {
+        @Override
+        public boolean hasNext() {
+            if (modifications != expectedModifications) throw new ConcurrentModificationException();
+
+            while (index >= 0 && values[index] == null) index--;
+            return index >= 0 || (displaced != null && displacedIndex < displaced.size());
+        }
+
+        @Override
+        public Entry<UUID, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            if (index >= 0) {
+                current = new SimpleEntry<>(keyAt(index), valueAt(index));
+                currentIndex = index--;
+            } else {
+                current = displaced.get(displacedIndex++);
+                currentIndex = -1;
+            }
+
+            return new SimpleEntry<>(current) {
+                @Override
+                public V setValue(V value) {
+                    super.setValue(value);
+                    return put(getKey(), value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) throw new IllegalStateException();
+            if (modifications != expectedModifications) throw new ConcurrentModificationException();
+
+            if (currentIndex >= 0) {
+                removeAt(currentIndex, this);
+            } else {
+                TUuidMap.this.remove(current.getKey());
+            }
+
+            current = null;
+            expectedModifications = modifications;
+        }
+
+        // Called when an entry not yet visited was shifted into a visited slot
+        private void onDisplaced(int index) {
+            if (displaced == null) displaced = new TArray<>();
+            displaced.add(new SimpleEntry<>(keyAt(index), valueAt(index)));
+        }
+
+        // Slots are visited from last to first, so that removals only shift entries into visited slots
+        private int index = values.length - 1;
+        private int currentIndex = -1;
+        @Nullable
+        private Entry<UUID, V> current = null;
+        @Nullable
+        private TList<Entry<UUID, V>> displaced = null;
+        private int displacedIndex = 0;
+        private int expectedModifications = modifications;
+    }
+
+    // Gets the key at given index
+    @Nonnull
+    private UUID keyAt(int index) {
+        return new UUID(mostSignificantBits[index], leastSignificantBits[index]);
+    }
+
+    // Gets the value at given index
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    // Gets the index of a key, or -1 if not present
+    private int indexOf(long msb, long lsb) {
+        final int mask = values.length - 1;
+
+        for (int i = slot(msb, lsb, mask); values[i] != null; i = (i + 1) & mask) {
+            if (mostSignificantBits[i] == msb && leastSignificantBits[i] == lsb) return i;
+        }
+
+        return -1;
+    }
+
+    // Removes the entry at given index, shifting back the entries probed past it
+    private void removeAt(int index, @Nullable EntryIterator iterator) {
+        final int mask = values.length - 1;
+
+        int gap = index;
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            final int ideal = slot(mostSignificantBits[i], leastSignificantBits[i], mask);
+
+            // Move the entry into the gap if its ideal slot is not between the gap and itself
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                // An entry wrapping around from the front would move behind the iterator
+                if (iterator != null && i < index && gap >= index) iterator.onDisplaced(i);
+
+                mostSignificantBits[gap] = mostSignificantBits[i];
+                leastSignificantBits[gap] = leastSignificantBits[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        values[gap] = null;
+        size--;
+        modifications++;
+    }
+
+    // Rehashes every entry into a table of given capacity
+    private void resize(int capacity) {
+        final long[] oldMsbs = mostSignificantBits;
+        final long[] oldLsbs = leastSignificantBits;
+        final Object[] oldValues = values;
+
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        values = new Object[capacity];
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+
+            int j = slot(oldMsbs[i], oldLsbs[i], mask);
+            while (values[j] != null) j = (j + 1) & mask;
+
+            mostSignificantBits[j] = oldMsbs[i];
+            leastSignificantBits[j] = oldLsbs[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    // Gets the ideal slot of a key
+    private static int slot(long msb, long lsb, int mask) {
+        final long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // Gets the power-of-two table size which holds given number of entries under the load factor
+    private static int tableSizeFor(int expectedSize) {
+        final int min = Math.max(DEFAULT_CAPACITY, (int) Math.min(1 << 30, (long) expectedSize * 4 / 3 + 1));
+        return Integer.highestOneBit(min - 1) << 1;
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Nonnull
+    private long[] mostSignificantBits;
+    @Nonnull
+    private long[] leastSignificantBits;
+    @Nonnull
+    private Object[] values;
+    @Nonnegative
+    private int size;
+    private int modifications;
+}
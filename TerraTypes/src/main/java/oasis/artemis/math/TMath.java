@@ -29,4 +29,19 @@ public interface TMath {
     static double itan(double x) {
         return Math.toDegrees(Math.atan(x));
     }
+
+    /**
+     * Wraps an angle to the range of {@code -180} (inclusive) to {@code 180} (exclusive).
+     * Unlike the remainder operator, this also wraps negative angles correctly.
+     *
+     * @param degrees Angle in degrees
+     * @return Equivalent angle within range
+     */
+    static double wrapDegrees(double degrees) {
+        if (degrees >= -180 && degrees < 180) return degrees;
+
+        // Rounding may land exactly on the exclusive bound
+        final double wrapped = degrees - 360 * Math.floor((degrees + 180) / 360);
+        return wrapped >= 180 ? wrapped - 360 : wrapped;
+    }
 }
@@ -1,10 +1,13 @@
 package oasis.artemis.object;
 
+import oasis.artemis.physics.Aabb;
 import oasis.artemis.physics.Location;
 import oasis.artemis.physics.Mass;
+import oasis.artemis.physics.Rotation;
 import oasis.artemis.physics.Vector;
 import oasis.artemis.physics.Volume;
 import oasis.artemis.texture.Texture;
+import oasis.artemis.util.HandleTable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -14,6 +17,9 @@ import java.util.UUID;
 /**
  * <h2>AbstractObject</h2>
  * <p>A basic implementation of {@link Object} for easier development.</p>
+ * <p>
+ * The bounding box and rotation of an object are cached, and recalculated after its location or volume changes.
+ * </p>
  */
 public abstract class AbstractObject implements TObject {
     /**
@@ -110,6 +116,7 @@ public abstract class AbstractObject implements TObject {
         this.fluid = other.fluid;
         this.obeysPhysics = other.obeysPhysics;
         this.dragCoefficient = other.dragCoefficient;
+        this.handle = HandleTable.NONE;
     }
 
     @Nonnull
@@ -126,6 +133,11 @@ public abstract class AbstractObject implements TObject {
     private boolean obeysPhysics;
     @Positive
     private double dragCoefficient;
+    private int handle = HandleTable.NONE;
+    @Nullable
+    private transient Aabb aabb;
+    @Nullable
+    private transient Rotation rotation;
 
     @Override
     @Nonnull
@@ -133,6 +145,11 @@ public abstract class AbstractObject implements TObject {
         return uniqueId;
     }
 
+    @Override
+    public int getHandle() {
+        return handle;
+    }
+
     @Override
     @Nonnull
     public Location getLocation() {
@@ -145,6 +162,32 @@ public abstract class AbstractObject implements TObject {
         return vector;
     }
 
+    @Override
+    @Nonnull
+    public Aabb getAabb() {
+        Aabb aabb = this.aabb;
+
+        if (aabb == null) {
+            aabb = Aabb.of(location, volume);
+            this.aabb = aabb;
+        }
+
+        return aabb;
+    }
+
+    @Override
+    @Nonnull
+    public Rotation getRotation() {
+        Rotation rotation = this.rotation;
+
+        if (rotation == null) {
+            rotation = location.getRotation();
+            this.rotation = rotation;
+        }
+
+        return rotation;
+    }
+
     @Override
     @Nonnull
     public Mass getMass() {
@@ -173,9 +216,16 @@ public abstract class AbstractObject implements TObject {
         return dragCoefficient;
     }
 
+    @Override
+    public void setHandle(int handle) {
+        this.handle = handle;
+    }
+
     @Override
     public void setLocation(@Nonnull Location location) {
         this.location = location;
+        this.aabb = null;
+        this.rotation = null;
     }
 
     @Override
@@ -191,6 +241,7 @@ public abstract class AbstractObject implements TObject {
     @Override
     public void setVolume(@Nonnull Volume volume) {
         this.volume = volume;
+        this.aabb = null;
     }
 
     @Override
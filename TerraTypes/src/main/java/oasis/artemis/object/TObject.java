@@ -2,6 +2,7 @@ package oasis.artemis.object;
 
 import oasis.artemis.physics.*;
 import oasis.artemis.texture.Texture;
+import oasis.artemis.util.HandleTable;
 import oasis.artemis.util.Unique;
 import oasis.artemis.world.World;
 
@@ -24,6 +25,29 @@ public interface TObject extends Unique, Serializable {
     //
     double DEFAULT_DRAG_COEFFICIENT = 1.0;
 
+    //
+    // Identification
+    //
+
+    /**
+     * Gets the handle of this object.
+     * Handles are compact runtime identifiers issued by the world this object is in,
+     * and are cheaper to compare and store than {@link TObject#getUniqueId()}.
+     * A handle is only valid while this object is in the world, and is not preserved across sessions.
+     *
+     * @return Handle, or {@link HandleTable#NONE} if this object is not in a world
+     * @see World#getObject(int)
+     */
+    int getHandle();
+
+    /**
+     * Sets the handle of this object.
+     * This is called by worlds when this object is added or removed, and should not be called otherwise.
+     *
+     * @param handle Handle
+     */
+    void setHandle(int handle);
+
     //
     // Physics
     //
@@ -36,6 +60,16 @@ public interface TObject extends Unique, Serializable {
     @Nonnull
     Location getLocation();
 
+    /**
+     * Gets the rotation of this object.
+     * Implementations are encouraged to cache the rotation until the location changes.
+     *
+     * @return {@link Rotation}
+     * @see Location#getRotation()
+     */
+    @Nonnull
+    default Rotation getRotation() {return getLocation().getRotation();}
+
     /**
      * Gets the world this object is in.
      *
@@ -93,23 +127,32 @@ public interface TObject extends Unique, Serializable {
     @Nonnull
     default TriLocation getTriLocation() {return new TriLocation(getLocation(), getVolume());}
 
+    /**
+     * Gets the axis-aligned bounding box of this object.
+     * Implementations are encouraged to cache the box until the location or volume changes.
+     *
+     * @return {@link Aabb}
+     */
+    @Nonnull
+    default Aabb getAabb() {return Aabb.of(getLocation(), getVolume());}
+
     /**
      * Checks if this object contains another object in spacial context.
      *
      * @param other Other object
-     * @return {@code true} if the other object's TriLocation is within the bounds of this object's TriLocation
-     * @see TriLocation#contains(TriLocation)
+     * @return {@code true} if the other object's bounding box is within the bounds of this object's bounding box
+     * @see Aabb#contains(Aabb)
      */
-    default boolean contains(@Nonnull TObject other) {return getTriLocation().contains(other.getTriLocation());}
+    default boolean contains(@Nonnull TObject other) {return getAabb().contains(other.getAabb());}
 
     /**
      * Checks if this object overlaps another object in spacial context.
      *
      * @param other Other object
-     * @return {@code true} if the other object's TriLocation is within the bounds of this object's TriLocation
-     * @see TriLocation#overlaps(TriLocation)
+     * @return {@code true} if the bounding boxes of both objects overlap
+     * @see Aabb#overlaps(Aabb)
      */
-    default boolean overlaps(@Nonnull TObject other) {return getTriLocation().overlaps(other.getTriLocation());}
+    default boolean overlaps(@Nonnull TObject other) {return getAabb().overlaps(other.getAabb());}
 
     /**
      * Gets the density of this object, denoted in kilograms per cubic meter.
@@ -0,0 +1,161 @@
+package oasis.artemis.physics;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+
+/**
+ * <h2>Aabb</h2>
+ * <p>
+ * An axis-aligned bounding box, defined by its minimum and maximum coordinates.
+ * </p>
+ * <p>
+ * Unlike {@link TriLocation}, an AABB holds its bounds as primitives,
+ * so overlap and containment tests are a handful of interval comparisons which do not allocate.
+ * Bounds are inclusive, so two boxes which share a face overlap.
+ * </p>
+ *
+ * @param minX Minimum X coordinate
+ * @param minY Minimum Y coordinate
+ * @param minZ Minimum Z coordinate
+ * @param maxX Maximum X coordinate
+ * @param maxY Maximum Y coordinate
+ * @param maxZ Maximum Z coordinate
+ */
+public record Aabb(
+        double minX,
+        double minY,
+        double minZ,
+        double maxX,
+        double maxY,
+        double maxZ
+) implements Serializable {
+    /**
+     * Creates an AABB from its center and volume.
+     *
+     * @param center Center of the box
+     * @param volume Volume of the box
+     * @return AABB
+     */
+    @Nonnull
+    public static Aabb of(@Nonnull Location center, @Nonnull Volume volume) {
+        final double halfX = volume.x() / 2;
+        final double halfY = volume.y() / 2;
+        final double halfZ = volume.z() / 2;
+
+        return new Aabb(
+                center.x() - halfX, center.y() - halfY, center.z() - halfZ,
+                center.x() + halfX, center.y() + halfY, center.z() + halfZ
+        );
+    }
+
+    /**
+     * Gets the X coordinate of the center of this box.
+     *
+     * @return Center X
+     */
+    public double getCenterX() {
+        return (minX + maxX) / 2;
+    }
+
+    /**
+     * Gets the Y coordinate of the center of this box.
+     *
+     * @return Center Y
+     */
+    public double getCenterY() {
+        return (minY + maxY) / 2;
+    }
+
+    /**
+     * Gets the Z coordinate of the center of this box.
+     *
+     * @return Center Z
+     */
+    public double getCenterZ() {
+        return (minZ + maxZ) / 2;
+    }
+
+    /**
+     * Gets the volume of this box in cubic meters.
+     *
+     * @return Volume
+     */
+    @Nonnegative
+    public double getVolume() {
+        return (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+    }
+
+    /**
+     * Checks if given point is within the bounds of this box.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @param z Z coordinate
+     * @return {@code true} if the point is within this box
+     */
+    public boolean contains(double x, double y, double z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Checks if given point is within the bounds of this box.
+     *
+     * @param point Point to check
+     * @return {@code true} if the point is within this box
+     */
+    public boolean contains(@Nonnull Location point) {
+        return contains(point.x(), point.y(), point.z());
+    }
+
+    /**
+     * Checks if given point is within the bounds of this box, ignoring the Y axis.
+     *
+     * @param x X coordinate
+     * @param z Z coordinate
+     * @return {@code true} if the point's X and Z coordinates are within this box
+     */
+    public boolean containsIgnoreY(double x, double z) {
+        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Checks if this box contains another.
+     *
+     * @param other Box to check
+     * @return {@code true} if the other box is entirely within the bounds of this box
+     */
+    public boolean contains(@Nonnull Aabb other) {
+        return other.minX >= minX && other.maxX <= maxX
+                && other.minY >= minY && other.maxY <= maxY
+                && other.minZ >= minZ && other.maxZ <= maxZ;
+    }
+
+    /**
+     * Checks if this box overlaps another.
+     * Boxes overlap when their intervals overlap on every axis,
+     * which includes the case where one box is within the other.
+     *
+     * @param other Box to check
+     * @return {@code true} if the boxes overlap
+     */
+    public boolean overlaps(@Nonnull Aabb other) {
+        return minX <= other.maxX && maxX >= other.minX
+                && minY <= other.maxY && maxY >= other.minY
+                && minZ <= other.maxZ && maxZ >= other.minZ;
+    }
+
+    /**
+     * Gets the smallest box which contains both this box and another.
+     *
+     * @param other Other box
+     * @return Union of both boxes
+     */
+    @Nonnull
+    public Aabb union(@Nonnull Aabb other) {
+        return new Aabb(
+                Math.min(minX, other.minX), Math.min(minY, other.minY), Math.min(minZ, other.minZ),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY), Math.max(maxZ, other.maxZ)
+        );
+    }
+}
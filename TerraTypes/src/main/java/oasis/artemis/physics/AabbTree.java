@@ -0,0 +1,324 @@
+package oasis.artemis.physics;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>AabbTree</h2>
+ * <p>
+ * An immutable bounding volume hierarchy of elements with {@link Aabb}s,
+ * packed bottom-up with the sort-tile-recursive (STR) algorithm.
+ * </p>
+ * <p>
+ * STR packing sorts elements into tiles along each axis in turn, so every node is full,
+ * and neighbouring elements share nodes. Queries only descend into nodes whose bounds match,
+ * so finding what a box overlaps takes roughly O(log n) instead of testing every element.
+ * </p>
+ * <p>
+ * The bounding box of every element is taken once, when the tree is built.
+ * Trees are meant to be built rarely, from elements which do not move, such as immovable objects.
+ * A tree is never modified, so it can be queried from any thread.
+ * </p>
+ *
+ * @param <E> Type of element
+ */
+public final class AabbTree<E> {
+    /**
+     * Gets the empty tree.
+     *
+     * @param <E> Type of element
+     * @return Empty tree
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <E> AabbTree<E> empty() {
+        return (AabbTree<E>) EMPTY;
+    }
+
+    /**
+     * Builds a tree of given elements.
+     *
+     * @param elements Elements to contain
+     * @param bounds   Function which gets the bounding box of an element
+     * @param <E>      Type of element
+     * @return Built tree
+     */
+    @Nonnull
+    public static <E> AabbTree<E> build(@Nonnull Collection<? extends E> elements, @Nonnull Function<? super E, Aabb> bounds) {
+        if (elements.isEmpty()) return empty();
+
+        final int size = elements.size();
+        final Object[] unsorted = new Object[size];
+        final Aabb[] unsortedBounds = new Aabb[size];
+
+        int i = 0;
+        for (E element : elements) {
+            unsorted[i] = element;
+            unsortedBounds[i] = bounds.apply(element);
+            i++;
+        }
+
+        // Leaves
+        final int[] order = order(unsortedBounds, 0, size);
+        final Object[] sorted = new Object[size];
+        final Aabb[] elementBounds = new Aabb[size];
+
+        for (i = 0; i < size; i++) {
+            sorted[i] = unsorted[order[i]];
+            elementBounds[i] = unsortedBounds[order[i]];
+        }
+
+        final int capacity = countNodes(size);
+        final Aabb[] nodeBounds = new Aabb[capacity];
+        final int[] first = new int[capacity];
+        final int[] count = new int[capacity];
+
+        int levelStart = 0;
+        int levelSize = pack(elementBounds, 0, size, nodeBounds, first, count, 0);
+        final int leaves = levelSize;
+
+        // Upper levels, until there is only the root
+        while (levelSize > 1) {
+            reorder(nodeBounds, first, count, levelStart, levelSize);
+
+            final int parentStart = levelStart + levelSize;
+            final int parents = pack(nodeBounds, levelStart, levelSize, nodeBounds, first, count, parentStart);
+
+            levelStart = parentStart;
+            levelSize = parents;
+        }
+
+        return new AabbTree<>(sorted, elementBounds, nodeBounds, first, count, leaves, levelStart);
+    }
+
+    private AabbTree(
+            @Nonnull Object[] elements,
+            @Nonnull Aabb[] elementBounds,
+            @Nonnull Aabb[] nodeBounds,
+            @Nonnull int[] first,
+            @Nonnull int[] count,
+            @Nonnegative int leaves,
+            int root
+    ) {
+        this.elements = elements;
+        this.elementBounds = elementBounds;
+        this.nodeBounds = nodeBounds;
+        this.first = first;
+        this.count = count;
+        this.leaves = leaves;
+        this.root = root;
+    }
+
+    /**
+     * Gets the number of elements in this tree.
+     *
+     * @return Number of elements
+     */
+    @Nonnegative
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Checks if this tree is empty.
+     *
+     * @return {@code true} if this tree has no elements
+     */
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    /**
+     * Gets the bounding box of every element of this tree.
+     *
+     * @return Bounds, or {@code null} if this tree is empty
+     */
+    @Nullable
+    public Aabb getBounds() {
+        return isEmpty() ? null : nodeBounds[root];
+    }
+
+    /**
+     * Performs given action on every element whose bounding box overlaps given box.
+     *
+     * @param box    Box to query
+     * @param action Action to perform
+     */
+    public void forEachOverlapping(@Nonnull Aabb box, @Nonnull Consumer<? super E> action) {
+        forEachMatching(bounds -> bounds.overlaps(box), action);
+    }
+
+    /**
+     * Checks if any element whose bounding box overlaps given box matches given filter.
+     *
+     * @param box    Box to query
+     * @param filter Filter to test elements with
+     * @return {@code true} if a matching element was found
+     */
+    public boolean anyOverlapping(@Nonnull Aabb box, @Nonnull Predicate<? super E> filter) {
+        return anyMatching(bounds -> bounds.overlaps(box), filter);
+    }
+
+    /**
+     * Performs given action on every element whose bounding box matches given region.
+     * The region must also match every box which contains a matching box,
+     * since it is used to skip entire nodes.
+     *
+     * @param region Region to test bounding boxes with
+     * @param action Action to perform
+     */
+    public void forEachMatching(@Nonnull Predicate<Aabb> region, @Nonnull Consumer<? super E> action) {
+        anyMatching(region, element -> {
+            action.accept(element);
+            return false;
+        });
+    }
+
+    /**
+     * Checks if any element whose bounding box matches given region matches given filter.
+     * The search stops at the first match.
+     * The region must also match every box which contains a matching box,
+     * since it is used to skip entire nodes.
+     *
+     * @param region Region to test bounding boxes with
+     * @param filter Filter to test elements with
+     * @return {@code true} if a matching element was found
+     */
+    public boolean anyMatching(@Nonnull Predicate<Aabb> region, @Nonnull Predicate<? super E> filter) {
+        return !isEmpty() && anyMatching(root, region, filter);
+    }
+
+    // Searches a node and its descendants
+    @SuppressWarnings("unchecked")
+    private boolean anyMatching(int node, @Nonnull Predicate<Aabb> region, @Nonnull Predicate<? super E> filter) {
+        if (!region.test(nodeBounds[node])) return false;
+
+        final int end = first[node] + count[node];
+
+        if (node < leaves) {
+            for (int i = first[node]; i < end; i++) {
+                if (region.test(elementBounds[i]) && filter.test((E) elements[i])) return true;
+            }
+        } else {
+            for (int child = first[node]; child < end; child++) {
+                if (anyMatching(child, region, filter)) return true;
+            }
+        }
+
+        return false;
+    }
+
+    //
+    // Packing
+    //
+
+    // Groups consecutive items into nodes, returning the number of nodes created
+    private static int pack(
+            @Nonnull Aabb[] items, int itemStart, int itemCount,
+            @Nonnull Aabb[] nodeBounds, @Nonnull int[] first, @Nonnull int[] count,
+            int nodeStart
+    ) {
+        int node = nodeStart;
+
+        for (int i = itemStart; i < itemStart + itemCount; i += NODE_CAPACITY) {
+            final int end = Math.min(itemStart + itemCount, i + NODE_CAPACITY);
+
+            Aabb bounds = items[i];
+            for (int j = i + 1; j < end; j++) bounds = bounds.union(items[j]);
+
+            nodeBounds[node] = bounds;
+            first[node] = i;
+            count[node] = end - i;
+            node++;
+        }
+
+        return node - nodeStart;
+    }
+
+    // Rearranges the nodes of a level into STR order
+    private static void reorder(@Nonnull Aabb[] nodeBounds, @Nonnull int[] first, @Nonnull int[] count, int start, int size) {
+        final Aabb[] bounds = Arrays.copyOfRange(nodeBounds, start, start + size);
+        final int[] firsts = Arrays.copyOfRange(first, start, start + size);
+        final int[] counts = Arrays.copyOfRange(count, start, start + size);
+        final int[] order = order(nodeBounds, start, size);
+
+        for (int i = 0; i < size; i++) {
+            nodeBounds[start + i] = bounds[order[i]];
+            first[start + i] = firsts[order[i]];
+            count[start + i] = counts[order[i]];
+        }
+    }
+
+    // Gets the STR order of boxes: slabs along X, runs along Z within each slab, then Y within each run
+    @Nonnull
+    private static int[] order(@Nonnull Aabb[] bounds, int start, int size) {
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+
+        final int nodes = ceilDiv(size, NODE_CAPACITY);
+        final int tiles = (int) Math.ceil(Math.cbrt(nodes));
+
+        // Slabs and runs are multiples of the node capacity, so nodes never straddle two tiles
+        final int slabSize = NODE_CAPACITY * ceilDiv(nodes, tiles);
+        Arrays.sort(order, Comparator.comparingDouble(i -> bounds[start + i].getCenterX()));
+
+        for (int slab = 0; slab < size; slab += slabSize) {
+            final int slabEnd = Math.min(size, slab + slabSize);
+            final int runSize = NODE_CAPACITY * ceilDiv(ceilDiv(slabEnd - slab, NODE_CAPACITY), tiles);
+            Arrays.sort(order, slab, slabEnd, Comparator.comparingDouble(i -> bounds[start + i].getCenterZ()));
+
+            for (int run = slab; run < slabEnd; run += runSize) {
+                Arrays.sort(order, run, Math.min(slabEnd, run + runSize), Comparator.comparingDouble(i -> bounds[start + i].getCenterY()));
+            }
+        }
+
+        final int[] result = new int[size];
+        for (int i = 0; i < size; i++) result[i] = order[i];
+
+        return result;
+    }
+
+    // Counts the nodes of a tree of given size
+    private static int countNodes(int size) {
+        int total = 0;
+        int level = size;
+
+        do {
+            level = ceilDiv(level, NODE_CAPACITY);
+            total += level;
+        } while (level > 1);
+
+        return total;
+    }
+
+    private static int ceilDiv(int x, int y) {
+        return (x + y - 1) / y;
+    }
+
+    private static final int NODE_CAPACITY = 8;
+    private static final AabbTree<?> EMPTY = new AabbTree<>(new Object[0], new Aabb[0], new Aabb[0], new int[0], new int[0], 0, 0);
+
+    // Elements in leaf order, and their bounds
+    @Nonnull
+    private final Object[] elements;
+    @Nonnull
+    private final Aabb[] elementBounds;
+    // Nodes stored level by level, leaves first and the root last
+    @Nonnull
+    private final Aabb[] nodeBounds;
+    // Index of the first child of each node, which is an element for leaves and a node otherwise
+    @Nonnull
+    private final int[] first;
+    @Nonnull
+    private final int[] count;
+    @Nonnegative
+    private final int leaves;
+    private final int root;
+}
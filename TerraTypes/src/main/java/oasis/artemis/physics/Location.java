@@ -1,6 +1,7 @@
 package oasis.artemis.physics;
 
 import oasis.artemis.exception.physics.DifferentWorldException;
+import oasis.artemis.math.TMath;
 import oasis.artemis.world.World;
 
 import javax.annotation.Nonnegative;
@@ -12,12 +13,16 @@ import java.io.Serializable;
  * <p>
  * Represents a point in a three-dimensional plane.
  * Since yaw, pitch and roll represent the rotation of an object,
- * their getters are designed to convert them to within the acceptable range.</p>
- *
+ * they are wrapped to within the acceptable range when the location is created.
+ * Use {@link Location#getRotation()} for rotation math.
  * </p>
  * <p>
  * <b>Every coordinate is denoted in meters.</b>
  * </p>
+ * <p>
+ * Every modifier creates a new location.
+ * For calculations which chain many modifiers, use a {@link MutableLocation} instead.
+ * </p>
  *
  * @param world World this location is in
  * @param x     X coordinate of this location (scalar of width)
@@ -32,10 +37,19 @@ public record Location(
         double x,
         double y,
         double z,
-        double yaw, // -180 <= yaw <= 180
-        double pitch, // -180 <= pitch <= 180
-        double roll // -180 <= roll <= 180
+        double yaw, // -180 <= yaw < 180
+        double pitch, // -180 <= pitch < 180
+        double roll // -180 <= roll < 180
 ) implements Serializable {
+    /**
+     * Wraps yaw, pitch and roll to within the acceptable range.
+     */
+    public Location {
+        yaw = TMath.wrapDegrees(yaw);
+        pitch = TMath.wrapDegrees(pitch);
+        roll = TMath.wrapDegrees(roll);
+    }
+
     /**
      * Constructor which ignores yaw and pitch.
      *
@@ -64,43 +78,14 @@ public record Location(
     // Getters
 
     /**
-     * Converts the yaw to fit within the accepted range.
-     *
-     * @return Yaw
-     */
-    @Override
-    public double yaw() {
-        if (yaw > 180 || yaw < -180) {
-            return ((yaw + 180) % 360) - 180;
-        }
-
-        return yaw;
-    }
-
-    /**
-     * Converts the pitch to fit within the accepted range.
-     *
-     * @return Pitch
-     */
-    @Override
-    public double pitch() {
-        if (pitch > 180 || pitch < -180) {
-            return ((pitch + 180) % 360) - 180;
-        }
-        return pitch;
-    }
-
-    /**
-     * Converts the roll to fit within the accepted range.
+     * Gets the rotation of this location.
+     * This creates a new rotation every call, so cache the result when rotating repeatedly.
      *
-     * @return Roll
+     * @return {@link Rotation}
      */
-    @Override
-    public double roll() {
-        if (roll > 180 || roll < -180) {
-            return ((roll + 180) % 360) - 180;
-        }
-        return roll;
+    @Nonnull
+    public Rotation getRotation() {
+        return Rotation.of(yaw, pitch, roll);
     }
 
     // Modifiers
@@ -295,6 +280,17 @@ public record Location(
                 .build();
     }
 
+    /**
+     * Changes the yaw, pitch and roll of this location to those of given rotation.
+     *
+     * @param rotation Rotation
+     * @return Resulting location
+     */
+    @Nonnull
+    public Location setRotation(@Nonnull Rotation rotation) {
+        return new Location(world, x, y, z, rotation.getYaw(), rotation.getPitch(), rotation.getRoll());
+    }
+
     // Util
 
     /**
@@ -350,6 +346,7 @@ public record Location(
             this.z = 0;
             this.yaw = 0;
             this.pitch = 0;
+            this.roll = 0;
         }
 
         private Builder(@Nonnull Location location) {
@@ -359,6 +356,7 @@ public record Location(
             this.z = location.z;
             this.yaw = location.yaw;
             this.pitch = location.pitch;
+            this.roll = location.roll;
         }
 
         @Nonnull
@@ -432,11 +430,6 @@ public record Location(
             // Check for null world
             if (world == null) throw new IllegalArgumentException();
 
-            // Correct yaw, pitch, and roll
-            if (pitch > 180 || pitch < -180) pitch = ((pitch + 180) % 360) - 180;
-            if (yaw > 180 || yaw < -180) yaw = ((yaw + 180) % 360) - 180;
-            if (roll > 180 || yaw < -180) roll = ((roll + 180) % 360) - 180;
-
             return new Location(this);
         }
     }
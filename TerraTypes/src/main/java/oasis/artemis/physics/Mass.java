@@ -11,19 +11,30 @@ import java.io.Serializable;
  * Non-SI units should be declared only once.
  * Conversion between unit systems is lossy.
  * </p>
- *
- * @param value Value of mass
- * @param unit  Unit of mass
+ * <p>
+ * A mass remembers the value and unit it was declared with,
+ * and is normalized to kilograms when it is created.
+ * {@link Mass#valueKilograms()}, which every physics calculation uses, does not convert.
+ * </p>
  */
-public record Mass(
-        @Nonnegative double value,
-        @Nonnull Unit unit
-) implements Serializable {
+public final class Mass implements Serializable {
     /**
      * Default constructor. Properties default to {@link Mass#MASSLESS}.
      */
     public Mass() {this(MASSLESS.value, MASSLESS.unit);}
 
+    /**
+     * Creates a new mass.
+     *
+     * @param value Value of mass
+     * @param unit  Unit of mass
+     */
+    public Mass(@Nonnegative double value, @Nonnull Unit unit) {
+        this.value = value;
+        this.unit = unit;
+        this.kilograms = value * unit.kilograms;
+    }
+
     /**
      * Represents infinite mass. Value is set to {@link Double#MAX_VALUE}, and unit to {@link Unit#TONNE}.
      * This ensures that every unit conversion will still result in the value being {@link Double#MAX_VALUE}.
@@ -38,13 +49,33 @@ public record Mass(
      */
     public static final Mass MASSLESS = new Mass(Double.MIN_VALUE, Unit.MILLIGRAM);
 
+    /**
+     * Gets the value of this mass, denoted in {@link Mass#unit()}.
+     *
+     * @return Value of mass
+     */
+    @Nonnegative
+    public double value() {
+        return value;
+    }
+
+    /**
+     * Gets the unit this mass was declared with.
+     *
+     * @return Unit of mass
+     */
+    @Nonnull
+    public Unit unit() {
+        return unit;
+    }
+
     /**
      * Gets the value of this mass denoted in milligrams.
      *
      * @return Milligrams
      */
     @Nonnegative
-    public double valueMilligrams() {return value * unit.toMilligrams();}
+    public double valueMilligrams() {return value(Unit.MILLIGRAM);}
 
     /**
      * Gets the value of this mass denoted in grams.
@@ -53,7 +84,7 @@ public record Mass(
      */
     @Nonnegative
     public double valueGrams() {
-        return value * unit.toGrams();
+        return value(Unit.GRAM);
     }
 
     /**
@@ -64,7 +95,7 @@ public record Mass(
      */
     @Nonnegative
     public double valueKilograms() {
-        return value * unit.toKilograms();
+        return kilograms;
     }
 
     /**
@@ -74,21 +105,20 @@ public record Mass(
      */
     @Nonnegative
     public double valueTons() {
-        return value * unit.toTons();
+        return value(Unit.TON);
     }
 
     /**
      * Gets the value of this mass denoted in given unit.
      * Imperial units do not have a dedicated getter by design.
      * <b>Conversion between unit systems is lossy.</b>
-     * Do not use this repetitively.
      *
      * @param unit Unit of denotation
      * @return Value in unit
      */
     @Nonnegative
     public double value(@Nonnull Unit unit) {
-        return unit.convert(value, unit);
+        return unit == this.unit ? value : unit.convert(value, this.unit);
     }
 
     /**
@@ -118,139 +148,76 @@ public record Mass(
 
     /**
      * The unit of mass.
+     * Each unit is defined by its value in kilograms,
+     * and the factors between every pair of units are calculated once, when this class is loaded.
      * Conversion between SI and imperial is lossy, do not use repetitively.
      */
     public enum Unit {
         // Metric
-        MILLIGRAM,
-        GRAM,
-        KILOGRAM,
+        MILLIGRAM(1e-6),
+        GRAM(1e-3),
+        KILOGRAM(1),
         /**
          * <b>METRIC TON</b>
          * <p>For imperial tons, use {@link Unit#TONNE}</p>
          */
-        TON,
+        TON(1e+3),
 
         //
         // Imperial
         // These are North American units.
         //
-        GRAIN,
-        OUNCE,
-        POUND,
+        GRAIN(6.479891e-5),
+        OUNCE(0.028349523125),
+        POUND(0.45359237),
         // North American ton (2,000 lbs)
-        TONNE;
+        TONNE(907.18474);
+
+        Unit(@Nonnegative double kilograms) {
+            this.kilograms = kilograms;
+        }
+
+        /**
+         * Gets the factor which converts a value denoted in this unit to given unit.
+         *
+         * @param unit Unit to convert to
+         * @return Conversion factor
+         */
+        @Nonnegative
+        public double to(@Nonnull Unit unit) {
+            return FACTORS[ordinal()][unit.ordinal()];
+        }
 
         public double toMilligrams() {
-            return switch (this) {
-                case MILLIGRAM -> 1;
-                case GRAM -> 1000;
-                case KILOGRAM -> 1000000;
-                case TON -> 1000000000;
-
-                case GRAIN -> 64.7989;
-                case OUNCE -> 28349.5;
-                case POUND -> 453592;
-                case TONNE -> 1.016e+9;
-            };
+            return to(MILLIGRAM);
         }
 
         public double toGrams() {
-            return switch (this) {
-                case MILLIGRAM -> 0.001;
-                case GRAM -> 1;
-                case KILOGRAM -> 1000;
-                case TON -> 1000000;
-
-                case GRAIN -> 15.4324;
-                case OUNCE -> 28.3495;
-                case POUND -> 453.592;
-                case TONNE -> 907185;
-            };
+            return to(GRAM);
         }
 
         public double toKilograms() {
-            return switch (this) {
-                case MILLIGRAM -> 0.000001;
-                case GRAM -> 0.001;
-                case KILOGRAM -> 1;
-                case TON -> 1000;
-
-                case GRAIN -> 6.4799e-5;
-                case OUNCE -> 0.0283495;
-                case POUND -> 0.453592;
-                case TONNE -> 907.185;
-            };
+            return kilograms;
         }
 
         public double toTons() {
-            return switch (this) {
-                case MILLIGRAM -> 1e-9;
-                case GRAM -> 0.000001;
-                case KILOGRAM -> 0.001;
-                case TON -> 1;
-
-                case GRAIN -> 6.47989e-8;
-                case OUNCE -> 2.83495e-5;
-                case POUND -> 0.000453592;
-                case TONNE -> 1.01605;
-            };
+            return to(TON);
         }
 
         public double toGrains() {
-            return switch (this) {
-                case MILLIGRAM -> 0.0154324;
-                case GRAM -> 15.4324;
-                case KILOGRAM -> 15432.4;
-                case TON -> 1.543e+7;
-
-                case GRAIN -> 1;
-                case OUNCE -> 437.5;
-                case POUND -> 7000;
-                case TONNE -> 1.4e+7;
-            };
+            return to(GRAIN);
         }
 
         public double toOunces() {
-            return switch (this) {
-                case MILLIGRAM -> 3.5274e-5;
-                case GRAM -> 0.035274;
-                case KILOGRAM -> 35.274;
-                case TON -> 35274;
-
-                case GRAIN -> 0.00228571;
-                case OUNCE -> 1;
-                case POUND -> 16;
-                case TONNE -> 32000;
-            };
+            return to(OUNCE);
         }
 
         public double toPounds() {
-            return switch (this) {
-                case MILLIGRAM -> 2.20462e-6;
-                case GRAM -> 0.00220462;
-                case KILOGRAM -> 2.204;
-                case TON -> 2204.62;
-
-                case GRAIN -> 0.000142857;
-                case OUNCE -> 0.0625;
-                case POUND -> 1;
-                case TONNE -> 2000;
-            };
+            return to(POUND);
         }
 
         public double toTonnes() {
-            return switch (this) {
-                case MILLIGRAM -> 9.84207e-10;
-                case GRAM -> 9.84207e-7;
-                case KILOGRAM -> 0.000984207;
-                case TON -> 0.984207;
-
-                case GRAIN -> 6.37755e-8;
-                case OUNCE -> 2.79018e-5;
-                case POUND -> 0.000446429;
-                case TONNE -> 1;
-            };
+            return to(TONNE);
         }
 
         /**
@@ -261,20 +228,25 @@ public record Mass(
          * @return Converted value
          */
         public double convert(@Nonnegative double sourceValue, @Nonnull Unit sourceUnit) {
-            double modifier = switch (this) {
-                case MILLIGRAM -> sourceUnit.toMilligrams();
-                case GRAM -> sourceUnit.toGrams();
-                case KILOGRAM -> sourceUnit.toKilograms();
-                case TON -> sourceUnit.toTons();
-
-                case GRAIN -> sourceUnit.toGrains();
-                case OUNCE -> sourceUnit.toOunces();
-                case POUND -> sourceUnit.toPounds();
-                case TONNE -> sourceUnit.toTonnes();
-            };
-
-            return sourceValue * modifier;
+            return sourceValue * FACTORS[sourceUnit.ordinal()][ordinal()];
         }
+
+        // Row is the unit to convert from, column is the unit to convert to
+        private static final double[][] FACTORS;
+
+        static {
+            final Unit[] units = values();
+            FACTORS = new double[units.length][units.length];
+
+            for (Unit from : units) {
+                for (Unit to : units) {
+                    FACTORS[from.ordinal()][to.ordinal()] = from == to ? 1 : from.kilograms / to.kilograms;
+                }
+            }
+        }
+
+        @Nonnegative
+        private final double kilograms;
     }
 
     /**
@@ -291,6 +263,23 @@ public record Mass(
         this(builder.value, builder.unit);
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Mass other
+                && Double.compare(value, other.value) == 0
+                && unit == other.unit;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(value) + unit.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Mass[value=" + value + ", unit=" + unit + "]";
+    }
+
     public static final class Builder {
         @SuppressWarnings("ConstantConditions")
         private Builder() {
@@ -333,4 +322,12 @@ public record Mass(
             return new Mass(this);
         }
     }
+
+    @Nonnegative
+    private final double value;
+    @Nonnull
+    private final Unit unit;
+    // Value normalized to kilograms
+    @Nonnegative
+    private final double kilograms;
 }
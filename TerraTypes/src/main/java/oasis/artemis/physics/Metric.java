@@ -7,6 +7,10 @@ package oasis.artemis.physics;
  * Every return value is denoted in SI standard units,
  * unless explicitly specified.
  * </p>
+ * <p>
+ * Each conversion is a single multiplication by one of the factors declared below,
+ * which are exact where the unit is defined exactly.
+ * </p>
  */
 public interface Metric {
     //
@@ -19,7 +23,7 @@ public interface Metric {
      * @param millimeter Millimeter
      * @return Meter
      */
-    static double millimeter(double millimeter) {return millimeter / 1000;}
+    static double millimeter(double millimeter) {return millimeter * METERS_PER_MILLIMETER;}
 
     /**
      * Converts centimeter to meter.
@@ -27,7 +31,7 @@ public interface Metric {
      * @param centimeter Centimeter
      * @return Meter
      */
-    static double centimeter(double centimeter) {return centimeter / 100;}
+    static double centimeter(double centimeter) {return centimeter * METERS_PER_CENTIMETER;}
 
     /**
      * Converts kilometer to meter.
@@ -35,7 +39,7 @@ public interface Metric {
      * @param kilometer Kilometer
      * @return Meter
      */
-    static double kilometer(double kilometer) {return kilometer * 1000;}
+    static double kilometer(double kilometer) {return kilometer * METERS_PER_KILOMETER;}
 
     /**
      * Converts inch to meter.
@@ -43,7 +47,7 @@ public interface Metric {
      * @param inch Inch
      * @return Meter
      */
-    static double inch(double inch) {return inch * 0.0254;}
+    static double inch(double inch) {return inch * METERS_PER_INCH;}
 
     /**
      * Converts feet to meter.
@@ -51,7 +55,7 @@ public interface Metric {
      * @param feet Feet
      * @return Meter
      */
-    static double feet(double feet) {return feet * 0.3048;}
+    static double feet(double feet) {return feet * METERS_PER_FOOT;}
 
     /**
      * Converts yard to meter.
@@ -59,7 +63,7 @@ public interface Metric {
      * @param yard Yard
      * @return Meter
      */
-    static double yard(double yard) {return yard * 0.9144;}
+    static double yard(double yard) {return yard * METERS_PER_YARD;}
 
     /**
      * Converts mile to meter.
@@ -67,7 +71,7 @@ public interface Metric {
      * @param mile Mile
      * @return Meter
      */
-    static double mile(double mile) {return mile * 1609.34;}
+    static double mile(double mile) {return mile * METERS_PER_MILE;}
 
     //
     // Speed
@@ -79,7 +83,7 @@ public interface Metric {
      * @param kph km/h
      * @return m/s
      */
-    static double kilometersPerHour(double kph) {return kph * 0.277778;}
+    static double kilometersPerHour(double kph) {return kph * KILOMETERS_PER_HOUR;}
 
     /**
      * Converts miles per hour to meters per second.
@@ -87,7 +91,7 @@ public interface Metric {
      * @param mph miles/h
      * @return meters/s
      */
-    static double milesPerHour(double mph) {return mph * 0.44704;}
+    static double milesPerHour(double mph) {return mph * MILES_PER_HOUR;}
 
     /**
      * Converts feet per second to meters per second.
@@ -96,5 +100,59 @@ public interface Metric {
      * @param fps f/s
      * @return m/s
      */
-    static double feetPerSecond(double fps) {return fps * 0.3048;}
+    static double feetPerSecond(double fps) {return fps * FEET_PER_SECOND;}
+
+    //
+    // Factors
+    //
+
+    /**
+     * Meters in a millimeter.
+     */
+    double METERS_PER_MILLIMETER = 0.001;
+
+    /**
+     * Meters in a centimeter.
+     */
+    double METERS_PER_CENTIMETER = 0.01;
+
+    /**
+     * Meters in a kilometer.
+     */
+    double METERS_PER_KILOMETER = 1000;
+
+    /**
+     * Meters in an international inch.
+     */
+    double METERS_PER_INCH = 0.0254;
+
+    /**
+     * Meters in an international foot.
+     */
+    double METERS_PER_FOOT = 0.3048;
+
+    /**
+     * Meters in an international yard.
+     */
+    double METERS_PER_YARD = 0.9144;
+
+    /**
+     * Meters in an international mile.
+     */
+    double METERS_PER_MILE = 1609.344;
+
+    /**
+     * Meters per second in a kilometer per hour.
+     */
+    double KILOMETERS_PER_HOUR = METERS_PER_KILOMETER / 3600;
+
+    /**
+     * Meters per second in a mile per hour.
+     */
+    double MILES_PER_HOUR = METERS_PER_MILE / 3600;
+
+    /**
+     * Meters per second in a foot per second.
+     */
+    double FEET_PER_SECOND = METERS_PER_FOOT;
 }
@@ -0,0 +1,175 @@
+package oasis.artemis.physics;
+
+import oasis.artemis.world.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <h2>MutableLocation</h2>
+ * <p>
+ * A mutable location used as scratch space in physics calculations.
+ * Every operation modifies this instance in place and returns it for chaining,
+ * so a calculation can run without allocating intermediate {@link Location}s.
+ * </p>
+ * <p>
+ * Mutable locations are not thread-safe, and should not be shared or stored.
+ * Use {@link MutableLocation#toLocation()} to publish the result.
+ * </p>
+ */
+public final class MutableLocation {
+    /**
+     * Creates a new mutable location with no world.
+     * A world must be set before converting it to a {@link Location}.
+     */
+    public MutableLocation() {}
+
+    /**
+     * Creates a new mutable location with the values of given location.
+     *
+     * @param location Location to copy
+     */
+    public MutableLocation(@Nonnull Location location) {
+        set(location);
+    }
+
+    @Nullable
+    public World world() {
+        return world;
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    public double z() {
+        return z;
+    }
+
+    public double yaw() {
+        return yaw;
+    }
+
+    public double pitch() {
+        return pitch;
+    }
+
+    public double roll() {
+        return roll;
+    }
+
+    /**
+     * Sets every value of this location to those of given location.
+     *
+     * @param location Location to copy
+     * @return This location
+     */
+    @Nonnull
+    public MutableLocation set(@Nonnull Location location) {
+        this.world = location.world();
+        this.x = location.x();
+        this.y = location.y();
+        this.z = location.z();
+        this.yaw = location.yaw();
+        this.pitch = location.pitch();
+        this.roll = location.roll();
+        return this;
+    }
+
+    /**
+     * Sets the world of this location.
+     *
+     * @param world World
+     * @return This location
+     */
+    @Nonnull
+    public MutableLocation setWorld(@Nonnull World world) {
+        this.world = world;
+        return this;
+    }
+
+    /**
+     * Sets the coordinates of this location.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @param z Z coordinate
+     * @return This location
+     */
+    @Nonnull
+    public MutableLocation set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Adds given deltas to the coordinates of this location.
+     *
+     * @param x X delta
+     * @param y Y delta
+     * @param z Z delta
+     * @return This location
+     */
+    @Nonnull
+    public MutableLocation add(double x, double y, double z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Adds a vector to this location.
+     *
+     * @param vector Vector to add
+     * @return This location
+     */
+    @Nonnull
+    public MutableLocation add(@Nonnull Vector vector) {
+        return add(vector.x(), vector.y(), vector.z());
+    }
+
+    /**
+     * Adds a vector to this location.
+     *
+     * @param vector Vector to add
+     * @return This location
+     */
+    @Nonnull
+    public MutableLocation add(@Nonnull MutableVec3 vector) {
+        return add(vector.x(), vector.y(), vector.z());
+    }
+
+    /**
+     * Converts this location to an immutable {@link Location}.
+     *
+     * @return Location
+     * @throws IllegalArgumentException When the world has not been set
+     */
+    @Nonnull
+    public Location toLocation() throws IllegalArgumentException {
+        if (world == null) throw new IllegalArgumentException("World has not been set");
+        return new Location(world, x, y, z, yaw, pitch, roll);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableLocation[world=" + world + ", x=" + x + ", y=" + y + ", z=" + z
+                + ", yaw=" + yaw + ", pitch=" + pitch + ", roll=" + roll + "]";
+    }
+
+    @Nullable
+    private World world;
+    private double x;
+    private double y;
+    private double z;
+    private double yaw;
+    private double pitch;
+    private double roll;
+}
@@ -0,0 +1,204 @@
+package oasis.artemis.physics;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>MutableVec3</h2>
+ * <p>
+ * A mutable three-dimensional vector used as scratch space in physics calculations.
+ * Every operation modifies this instance in place and returns it for chaining,
+ * so a calculation can run without allocating intermediate {@link Vector}s.
+ * </p>
+ * <p>
+ * Mutable vectors are not thread-safe, and should not be shared or stored.
+ * Use {@link MutableVec3#toVector()} to publish the result.
+ * </p>
+ */
+public final class MutableVec3 {
+    /**
+     * Creates a new mutable vector with values {@code 0, 0, 0}.
+     */
+    public MutableVec3() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * Creates a new mutable vector.
+     *
+     * @param x X value
+     * @param y Y value
+     * @param z Z value
+     */
+    public MutableVec3(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new mutable vector with the values of given vector.
+     *
+     * @param vector Vector to copy
+     */
+    public MutableVec3(@Nonnull Vector vector) {
+        this(vector.x(), vector.y(), vector.z());
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    public double z() {
+        return z;
+    }
+
+    /**
+     * Gets the magnitude of this vector.
+     *
+     * @return Magnitude
+     */
+    @Nonnegative
+    public double getMagnitude() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Checks if all values of this vector equal to zero.
+     *
+     * @return {@code true} if all values are zero
+     */
+    public boolean isZero() {
+        return x == 0 && y == 0 && z == 0;
+    }
+
+    /**
+     * Sets the values of this vector.
+     *
+     * @param x X value
+     * @param y Y value
+     * @param z Z value
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the values of this vector to those of given vector.
+     *
+     * @param vector Vector to copy
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 set(@Nonnull Vector vector) {
+        return set(vector.x(), vector.y(), vector.z());
+    }
+
+    /**
+     * Sets the values of this vector to those of given vector.
+     *
+     * @param vector Vector to copy
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 set(@Nonnull MutableVec3 vector) {
+        return set(vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Adds given values to this vector.
+     *
+     * @param x X delta
+     * @param y Y delta
+     * @param z Z delta
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 add(double x, double y, double z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Adds given vector to this vector.
+     *
+     * @param vector Vector to add
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 add(@Nonnull Vector vector) {
+        return add(vector.x(), vector.y(), vector.z());
+    }
+
+    /**
+     * Adds given vector to this vector.
+     *
+     * @param vector Vector to add
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 add(@Nonnull MutableVec3 vector) {
+        return add(vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Multiplies every value of this vector by given scalar.
+     *
+     * @param scalar Scalar
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 scale(double scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        this.z *= scalar;
+        return this;
+    }
+
+    /**
+     * Clamps each value of this vector to the symmetric range of its limit.
+     * The sign of each value is kept, so {@code -5} clamped to a limit of {@code 3} becomes {@code -3}.
+     *
+     * @param limitX Maximum magnitude of X
+     * @param limitY Maximum magnitude of Y
+     * @param limitZ Maximum magnitude of Z
+     * @return This vector
+     */
+    @Nonnull
+    public MutableVec3 clamp(@Nonnegative double limitX, @Nonnegative double limitY, @Nonnegative double limitZ) {
+        this.x = Math.max(-limitX, Math.min(limitX, x));
+        this.y = Math.max(-limitY, Math.min(limitY, y));
+        this.z = Math.max(-limitZ, Math.min(limitZ, z));
+        return this;
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Vector}.
+     *
+     * @return Vector
+     */
+    @Nonnull
+    public Vector toVector() {
+        return new Vector(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec3[x=" + x + ", y=" + y + ", z=" + z + "]";
+    }
+
+    private double x;
+    private double y;
+    private double z;
+}
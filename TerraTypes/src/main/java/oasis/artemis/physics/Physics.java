@@ -39,23 +39,44 @@ public interface Physics {
      */
     @Nonnegative
     static double terminalVelocity(@Nonnull TObject object, @Nonnull Vector direction) {
-        final World world = object.getWorld();
-        double fluidDensity = Math.max(world.getAirDensity(), Double.MIN_VALUE);
-
-        final TSet<TObject> fluids = world.getObjects().filter(TObject::isFluid);
-        for (TObject fluid : fluids) {
-            if (fluid.overlaps(object)) {
-                fluidDensity = Math.max(fluid.getDensity(), Double.MIN_VALUE);
-                break;
-            }
-        }
+        return terminalVelocity(object, direction, fluidDensity(object));
+    }
 
+    /**
+     * Gets the terminal velocity of given object in a fluid of given density, denoted in meters per second.
+     * Use this with {@link Physics#fluidDensity(TObject)} to get the terminal velocity in multiple directions
+     * without looking up the fluid every time.
+     *
+     * @param object       Object to get terminal velocity of
+     * @param direction    The direction in which to get the terminal velocity of
+     * @param fluidDensity Density of the fluid the object is in
+     * @return Terminal velocity of object in given fluid
+     */
+    @Nonnegative
+    static double terminalVelocity(@Nonnull TObject object, @Nonnull Vector direction, double fluidDensity) {
         final double mass = object.getMassKilograms();
         final double crossSection = Math.max(object.getVolume().getCrossSection(direction), Double.MIN_VALUE);
         final double dragCoefficient = Math.max(object.getDragCoefficient(), Double.MIN_VALUE);
-        final double gravity = world.getGravity();
+        final double gravity = object.getWorld().getGravity();
 
-        return Math.sqrt((2 * mass * gravity) / (fluidDensity * crossSection * dragCoefficient));
+        return Math.sqrt((2 * mass * gravity) / (Math.max(fluidDensity, Double.MIN_VALUE) * crossSection * dragCoefficient));
+    }
+
+    /**
+     * Gets the density of the fluid given object is in, denoted in kilograms per cubic meter.
+     * If the object does not overlap a fluid, the air density of its world is returned.
+     *
+     * @param object Object to get the fluid density of
+     * @return Fluid density in kg/m3
+     */
+    static double fluidDensity(@Nonnull TObject object) {
+        final World world = object.getWorld();
+
+        for (TObject fluid : world.getObjects().lazy().filter(TObject::isFluid)) {
+            if (fluid.overlaps(object)) return Math.max(fluid.getDensity(), Double.MIN_VALUE);
+        }
+
+        return Math.max(world.getAirDensity(), Double.MIN_VALUE);
     }
 
     /**
@@ -80,8 +101,9 @@ public interface Physics {
 
         final TSet<TObject> objects = world.getObjects();
         for (TObject o : objects) {
-            if (isStandingOn(object, o.getTriLocation()) && o.getTriLocation().getMaxY() > world.getGroundLevel()) {
-                heightFromGround = object.getLocation().y() - o.getTriLocation().getMaxY();
+            final Aabb aabb = o.getAabb();
+            if (isStandingOn(object.getAabb(), aabb) && aabb.maxY() > world.getGroundLevel()) {
+                heightFromGround = object.getLocation().y() - aabb.maxY();
             }
         }
 
@@ -106,21 +128,21 @@ public interface Physics {
      * @return {@code true} if o1 is above o2
      */
     static boolean isStandingOn(@Nonnull TObject o1, @Nonnull TObject o2) {
-        return isStandingOn(o1.getTriLocation(), o2.getTriLocation());
+        return isStandingOn(o1.getAabb(), o2.getAabb());
     }
 
     /**
      * Checks if the object is above given TriLocation.
      * This will check if the object's X and Z coordinate are within the bounds of given TriLocation,
      * and whether the object's TriLocation's minimum Y is equal to or smaller than the given TriLocation's maximum Y.
-     * This method delegates to {@link Physics#isStandingOn(TriLocation, TriLocation)}.
+     * This method delegates to {@link Physics#isStandingOn(Aabb, Aabb)}.
      *
      * @param object      Object
      * @param triLocation TriLocation to check
      * @return {@code true} if the object is on top of given TriLocation
      */
     static boolean isStandingOn(@Nonnull TObject object, @Nonnull TriLocation triLocation) {
-        return isStandingOn(object.getTriLocation(), triLocation);
+        return isStandingOn(object.getAabb(), triLocation.getAabb());
     }
 
     /**
@@ -135,4 +157,17 @@ public interface Physics {
     static boolean isStandingOn(@Nonnull TriLocation t1, @Nonnull TriLocation t2) {
         return t2.containsIgnoreY(t1.center()) && t1.getMinY() <= t2.getMaxY();
     }
+
+    /**
+     * Checks if the first bounding box (henceforth a1) is on top of the second bounding box (henceforth a2).
+     * This will check if a1's median X and Z coordinate are within the bounds of a2,
+     * and whether a1's minimum Y is equal to or smaller than a2's maximum Y.
+     *
+     * @param a1 Bounding box 1
+     * @param a2 Bounding box 2
+     * @return {@code true} if a1 is above a2
+     */
+    static boolean isStandingOn(@Nonnull Aabb a1, @Nonnull Aabb a2) {
+        return a2.containsIgnoreY(a1.getCenterX(), a1.getCenterZ()) && a1.minY() <= a2.maxY();
+    }
 }
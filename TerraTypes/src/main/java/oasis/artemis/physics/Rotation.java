@@ -0,0 +1,346 @@
+package oasis.artemis.physics;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+
+/**
+ * <h2>Rotation</h2>
+ * <p>
+ * An immutable rotation in three-dimensional space, stored as a unit quaternion.
+ * </p>
+ * <p>
+ * The 3x3 rotation matrix is calculated once when the rotation is created,
+ * so rotating vectors does not evaluate any trigonometric functions.
+ * {@link Rotation#rotate(MutableVec3)} and the batched variants rotate in place, and do not allocate.
+ * </p>
+ * <p>
+ * Euler angles follow the convention of {@link Location}:
+ * yaw is applied around the Y axis, then pitch around the Z axis, then roll around the X axis.
+ * Every angle is denoted in degrees.
+ * </p>
+ */
+public final class Rotation implements Serializable {
+    /**
+     * Creates a new rotation from the components of a quaternion.
+     * The quaternion is normalized, so it does not need to be a unit quaternion.
+     *
+     * @param w W (scalar) component
+     * @param x X component
+     * @param y Y component
+     * @param z Z component
+     * @throws IllegalArgumentException When every component is zero
+     */
+    public Rotation(double w, double x, double y, double z) throws IllegalArgumentException {
+        final double length = Math.sqrt(w * w + x * x + y * y + z * z);
+        if (length == 0 || !Double.isFinite(length)) throw new IllegalArgumentException("Quaternion cannot be normalized");
+
+        this.w = w / length;
+        this.x = x / length;
+        this.y = y / length;
+        this.z = z / length;
+
+        final double xx = this.x * this.x, yy = this.y * this.y, zz = this.z * this.z;
+        final double xy = this.x * this.y, xz = this.x * this.z, yz = this.y * this.z;
+        final double wx = this.w * this.x, wy = this.w * this.y, wz = this.w * this.z;
+
+        this.m00 = 1 - 2 * (yy + zz);
+        this.m01 = 2 * (xy - wz);
+        this.m02 = 2 * (xz + wy);
+        this.m10 = 2 * (xy + wz);
+        this.m11 = 1 - 2 * (xx + zz);
+        this.m12 = 2 * (yz - wx);
+        this.m20 = 2 * (xz - wy);
+        this.m21 = 2 * (yz + wx);
+        this.m22 = 1 - 2 * (xx + yy);
+    }
+
+    /**
+     * Creates a rotation from Euler angles.
+     *
+     * @param yaw   Yaw (degree on the axis of Y)
+     * @param pitch Pitch (degree on the axis of Z)
+     * @param roll  Roll (degree on the axis of X)
+     * @return Rotation
+     */
+    @Nonnull
+    public static Rotation of(double yaw, double pitch, double roll) {
+        if (yaw == 0 && pitch == 0 && roll == 0) return IDENTITY;
+
+        final double halfYaw = Math.toRadians(yaw) / 2;
+        final double halfPitch = Math.toRadians(pitch) / 2;
+        final double halfRoll = Math.toRadians(roll) / 2;
+
+        final double cy = Math.cos(halfYaw), sy = Math.sin(halfYaw);
+        final double cz = Math.cos(halfPitch), sz = Math.sin(halfPitch);
+        final double cx = Math.cos(halfRoll), sx = Math.sin(halfRoll);
+
+        // Yaw around Y, multiplied by pitch around Z
+        final double w = cy * cz;
+        final double x = sy * sz;
+        final double y = sy * cz;
+        final double z = cy * sz;
+
+        // Multiplied by roll around X
+        return new Rotation(
+                w * cx - x * sx,
+                w * sx + x * cx,
+                y * cx + z * sx,
+                z * cx - y * sx
+        );
+    }
+
+    /**
+     * Creates a rotation around given axis.
+     *
+     * @param axis    Axis to rotate around
+     * @param degrees Angle to rotate
+     * @return Rotation
+     * @throws IllegalArgumentException When the axis is zero
+     */
+    @Nonnull
+    public static Rotation ofAxisAngle(@Nonnull Vector axis, double degrees) throws IllegalArgumentException {
+        final double length = axis.getMagnitude();
+        if (length == 0) throw new IllegalArgumentException("Axis cannot be zero");
+
+        final double half = Math.toRadians(degrees) / 2;
+        final double sin = Math.sin(half) / length;
+
+        return new Rotation(Math.cos(half), axis.x() * sin, axis.y() * sin, axis.z() * sin);
+    }
+
+    public double w() {
+        return w;
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    public double z() {
+        return z;
+    }
+
+    /**
+     * Gets the yaw of this rotation.
+     *
+     * @return Yaw (degree on the axis of Y)
+     */
+    public double getYaw() {
+        if (isGimbalLocked()) return Math.toDegrees(Math.atan2(m02, m22));
+        return Math.toDegrees(Math.atan2(-m20, m00));
+    }
+
+    /**
+     * Gets the pitch of this rotation.
+     *
+     * @return Pitch (degree on the axis of Z)
+     */
+    public double getPitch() {
+        return Math.toDegrees(Math.asin(Math.max(-1, Math.min(1, m10))));
+    }
+
+    /**
+     * Gets the roll of this rotation.
+     * When the pitch is exactly 90 or -90 degrees, yaw and roll cannot be told apart,
+     * and the roll is reported as zero.
+     *
+     * @return Roll (degree on the axis of X)
+     */
+    public double getRoll() {
+        if (isGimbalLocked()) return 0;
+        return Math.toDegrees(Math.atan2(-m12, m11));
+    }
+
+    /**
+     * Gets an element of the rotation matrix.
+     *
+     * @param row    Row, from 0 to 2
+     * @param column Column, from 0 to 2
+     * @return Element
+     * @throws IndexOutOfBoundsException When the row or column is out of range
+     */
+    public double getMatrix(@Nonnegative int row, @Nonnegative int column) throws IndexOutOfBoundsException {
+        return switch (row * 3 + column) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m10;
+            case 4 -> m11;
+            case 5 -> m12;
+            case 6 -> m20;
+            case 7 -> m21;
+            case 8 -> m22;
+            default -> throw new IndexOutOfBoundsException("Row: " + row + ", Column: " + column);
+        };
+    }
+
+    /**
+     * Copies the rotation matrix into given array in row-major order.
+     *
+     * @param destination Array to copy to
+     * @param offset      Index of the first element
+     */
+    public void copyMatrix(@Nonnull double[] destination, @Nonnegative int offset) {
+        destination[offset] = m00;
+        destination[offset + 1] = m01;
+        destination[offset + 2] = m02;
+        destination[offset + 3] = m10;
+        destination[offset + 4] = m11;
+        destination[offset + 5] = m12;
+        destination[offset + 6] = m20;
+        destination[offset + 7] = m21;
+        destination[offset + 8] = m22;
+    }
+
+    /**
+     * Combines this rotation with another.
+     * The other rotation is applied first, then this rotation.
+     *
+     * @param other Rotation to apply first
+     * @return Combined rotation
+     */
+    @Nonnull
+    public Rotation multiply(@Nonnull Rotation other) {
+        return new Rotation(
+                w * other.w - x * other.x - y * other.y - z * other.z,
+                w * other.x + x * other.w + y * other.z - z * other.y,
+                w * other.y - x * other.z + y * other.w + z * other.x,
+                w * other.z + x * other.y - y * other.x + z * other.w
+        );
+    }
+
+    /**
+     * Gets the inverse of this rotation.
+     *
+     * @return Inverse rotation
+     */
+    @Nonnull
+    public Rotation inverse() {
+        return new Rotation(w, -x, -y, -z);
+    }
+
+    /**
+     * Rotates given vector.
+     *
+     * @param vector Vector to rotate
+     * @return Rotated vector
+     */
+    @Nonnull
+    public Vector rotate(@Nonnull Vector vector) {
+        final double vx = vector.x(), vy = vector.y(), vz = vector.z();
+
+        return new Vector(
+                m00 * vx + m01 * vy + m02 * vz,
+                m10 * vx + m11 * vy + m12 * vz,
+                m20 * vx + m21 * vy + m22 * vz
+        );
+    }
+
+    /**
+     * Rotates given vector in place.
+     *
+     * @param vector Vector to rotate
+     * @return The same vector
+     */
+    @Nonnull
+    public MutableVec3 rotate(@Nonnull MutableVec3 vector) {
+        final double vx = vector.x(), vy = vector.y(), vz = vector.z();
+
+        return vector.set(
+                m00 * vx + m01 * vy + m02 * vz,
+                m10 * vx + m11 * vy + m12 * vz,
+                m20 * vx + m21 * vy + m22 * vz
+        );
+    }
+
+    /**
+     * Rotates many vectors by this rotation in place.
+     *
+     * @param x     X components
+     * @param y     Y components
+     * @param z     Z components
+     * @param count Number of vectors
+     */
+    public void rotate(@Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z, @Nonnegative int count) {
+        for (int i = 0; i < count; i++) {
+            final double vx = x[i], vy = y[i], vz = z[i];
+
+            x[i] = m00 * vx + m01 * vy + m02 * vz;
+            y[i] = m10 * vx + m11 * vy + m12 * vz;
+            z[i] = m20 * vx + m21 * vy + m22 * vz;
+        }
+    }
+
+    /**
+     * Rotates many vectors in place, each by its own rotation.
+     *
+     * @param rotations Rotations, one per vector
+     * @param x         X components
+     * @param y         Y components
+     * @param z         Z components
+     * @param count     Number of vectors
+     */
+    public static void rotateEach(
+            @Nonnull Rotation[] rotations,
+            @Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z,
+            @Nonnegative int count
+    ) {
+        for (int i = 0; i < count; i++) {
+            final Rotation r = rotations[i];
+            final double vx = x[i], vy = y[i], vz = z[i];
+
+            x[i] = r.m00 * vx + r.m01 * vy + r.m02 * vz;
+            y[i] = r.m10 * vx + r.m11 * vy + r.m12 * vz;
+            z[i] = r.m20 * vx + r.m21 * vy + r.m22 * vz;
+        }
+    }
+
+    // Whether the pitch is at a pole, where yaw and roll share an axis
+    private boolean isGimbalLocked() {
+        return Math.abs(m10) > GIMBAL_LOCK_THRESHOLD;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Rotation other
+                && Double.compare(w, other.w) == 0
+                && Double.compare(x, other.x) == 0
+                && Double.compare(y, other.y) == 0
+                && Double.compare(z, other.z) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(w);
+        result = 31 * result + Double.hashCode(x);
+        result = 31 * result + Double.hashCode(y);
+        result = 31 * result + Double.hashCode(z);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Rotation[w=" + w + ", x=" + x + ", y=" + y + ", z=" + z + "]";
+    }
+
+    /**
+     * The rotation which does not rotate.
+     */
+    public static final Rotation IDENTITY = new Rotation(1, 0, 0, 0);
+
+    private static final double GIMBAL_LOCK_THRESHOLD = 0.9999999;
+
+    private final double w;
+    private final double x;
+    private final double y;
+    private final double z;
+
+    private final double m00, m01, m02;
+    private final double m10, m11, m12;
+    private final double m20, m21, m22;
+}
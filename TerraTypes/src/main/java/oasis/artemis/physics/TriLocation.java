@@ -94,30 +94,37 @@ public record TriLocation(
      * Checks if this TriLocation contains another.
      *
      * @param other TriLocation to check
-     * @return {@code true} if all eight corners are within the bounds of this TriLocation
+     * @return {@code true} if the other TriLocation is entirely within the bounds of this TriLocation
      */
     public boolean contains(@Nonnull TriLocation other) {
-        for (Location corner : other.getCorners()) {
-            if (!contains(corner)) return false;
-        }
-
-        return true;
+        return other.getMinX() >= getMinX() && other.getMaxX() <= getMaxX()
+                && other.getMinY() >= getMinY() && other.getMaxY() <= getMaxY()
+                && other.getMinZ() >= getMinZ() && other.getMaxZ() <= getMaxZ();
     }
 
     /**
      * Checks if this TriLocation overlaps another.
+     * TriLocations overlap when their bounds overlap on every axis,
+     * which includes the cases where no corner of either is within the other.
      *
      * @param other TriLocation to check
-     * @return {@code true} if at least one of the eight corners are within the bounds of this TriLocation
+     * @return {@code true} if the TriLocations overlap
      */
     public boolean overlaps(@Nonnull TriLocation other) {
-        for (Location corner : other.getCorners()) {
-            if (contains(corner)) return true;
-        }
-
-        return false;
+        return getMinX() <= other.getMaxX() && getMaxX() >= other.getMinX()
+                && getMinY() <= other.getMaxY() && getMaxY() >= other.getMinY()
+                && getMinZ() <= other.getMaxZ() && getMaxZ() >= other.getMinZ();
     }
 
+    /**
+     * Gets the axis-aligned bounding box of this TriLocation.
+     *
+     * @return {@link Aabb}
+     */
+    @Nonnull
+    public Aabb getAabb() {
+        return Aabb.of(center, volume);
+    }
 
     /**
      * Gets the maximum X coordinate of this TriLocation.
@@ -15,6 +15,10 @@ import java.io.Serializable;
  * <p>
  * All parameters are values per tick.
  * </p>
+ * <p>
+ * Every modifier creates a new vector.
+ * For calculations which chain many modifiers, use a {@link MutableVec3} instead.
+ * </p>
  *
  * @param x The velocity of the X coordinate per tick
  * @param y The velocity of the Y coordinate per tick
@@ -60,7 +64,7 @@ public record Vector(
      */
     @Nonnegative
     public double getMagnitude() {
-        return Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2) + Math.pow(z, 2));
+        return Math.sqrt(x * x + y * y + z * z);
     }
 
     /**
@@ -208,7 +212,7 @@ public record Vector(
      */
     @Nonnull
     public Vector setX(double x) {
-        return toBuilder().x(x).build();
+        return new Vector(x, y, z);
     }
 
     /**
@@ -219,7 +223,7 @@ public record Vector(
      */
     @Nonnull
     public Vector setY(double y) {
-        return toBuilder().y(y).build();
+        return new Vector(x, y, z);
     }
 
     /**
@@ -230,7 +234,7 @@ public record Vector(
      */
     @Nonnull
     public Vector setZ(double z) {
-        return toBuilder().z(z).build();
+        return new Vector(x, y, z);
     }
 
     /**
@@ -241,7 +245,7 @@ public record Vector(
      */
     @Nonnull
     public Vector plusX(double delta) {
-        return toBuilder().x(x + delta).build();
+        return new Vector(x + delta, y, z);
     }
 
     /**
@@ -252,7 +256,7 @@ public record Vector(
      */
     @Nonnull
     public Vector plusY(double delta) {
-        return toBuilder().y(y + delta).build();
+        return new Vector(x, y + delta, z);
     }
 
     /**
@@ -263,7 +267,7 @@ public record Vector(
      */
     @Nonnull
     public Vector plusZ(double delta) {
-        return toBuilder().z(z + delta).build();
+        return new Vector(x, y, z + delta);
     }
 
     /**
@@ -274,7 +278,7 @@ public record Vector(
      */
     @Nonnull
     public Vector plus(@Nonnull Vector other) {
-        return plusX(other.x).plusY(other.y).plusZ(other.z);
+        return new Vector(x + other.x, y + other.y, z + other.z);
     }
 
     /**
@@ -285,7 +289,7 @@ public record Vector(
      */
     @Nonnull
     public Vector modifyX(double modifier) {
-        return toBuilder().x(x * modifier).build();
+        return new Vector(x * modifier, y, z);
     }
 
     /**
@@ -296,7 +300,7 @@ public record Vector(
      */
     @Nonnull
     public Vector modifyY(double modifier) {
-        return toBuilder().y(y * modifier).build();
+        return new Vector(x, y * modifier, z);
     }
 
     /**
@@ -307,7 +311,7 @@ public record Vector(
      */
     @Nonnull
     public Vector modifyZ(double modifier) {
-        return toBuilder().z(z * modifier).build();
+        return new Vector(x, y, z * modifier);
     }
 
     /**
@@ -318,11 +322,7 @@ public record Vector(
      */
     @Nonnull
     public Vector modifyAll(double modifier) {
-        return toBuilder()
-                .x(x * modifier)
-                .y(y * modifier)
-                .z(z * modifier)
-                .build();
+        return new Vector(x * modifier, y * modifier, z * modifier);
     }
 
     /**
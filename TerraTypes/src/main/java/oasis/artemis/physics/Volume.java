@@ -48,60 +48,31 @@ public record Volume(
     }
 
     /**
-     * Gets the maximum possible cross-section of this volume.
-     * This will return 0 if the direction is zero.
+     * Gets the cross-section of this volume facing given direction,
+     * which is the area of its projection onto a plane perpendicular to the direction.
      * Assumes this is a cuboid unless overridden.
+     * This will return 0 if the direction is zero.
+     * <p>
+     * Axis-aligned directions return the area of the corresponding face.
+     * Other directions weigh each face area by the component of the direction normal to it.
+     * </p>
      *
      * @param direction Direction to get cross-section of
      * @return Cross-section of given direction
      */
     @Nonnegative
     public double getCrossSection(@Nonnull Vector direction) {
-        // When the cross-section is a square
-        if (direction.isFacingOnly(Face.POSITIVE_X) || direction.isFacingOnly(Face.NEGATIVE_X)) {
-            return y * z;
-        } else if (direction.isFacingOnly(Face.POSITIVE_Y) || direction.isFacingOnly(Face.NEGATIVE_Y)) {
-            return x * z;
-        } else if (direction.isFacingOnly(Face.POSITIVE_Z) || direction.isFacingOnly(Face.NEGATIVE_Z)) {
-            return x * y;
-        }
-
-        // Diagonals
-        final double diagonalYZ = Math.sqrt(Math.pow(y, 2) + Math.pow(z, 2));
-        final double diagonalXZ = Math.sqrt(Math.pow(x, 2) + Math.pow(z, 2));
-        final double diagonalXY = Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2));
-
-        // When the cross-section is a face-diagonal
-        final double xWithYZDiagonal = x * diagonalYZ;
-        final double yWithXZDiagonal = y * diagonalXZ;
-        final double zWithXYDiagonal = z * diagonalXY;
-
-        if (direction.isFacingAtLeast(Face.POSITIVE_X, Face.NEGATIVE_X)) {
-            if ((direction.isFacingAtLeast(Face.POSITIVE_Y, Face.NEGATIVE_Y)) && direction.z() == 0) {
-                return yWithXZDiagonal;
-            } else if ((direction.isFacingAtLeast(Face.POSITIVE_Z, Face.NEGATIVE_Z)) && direction.y() == 0) {
-                return zWithXYDiagonal;
-            }
-        } else if (direction.isFacingAtLeast(Face.POSITIVE_Y, Face.NEGATIVE_Y)) {
-            if ((direction.isFacingAtLeast(Face.POSITIVE_X, Face.NEGATIVE_X)) && direction.z() == 0) {
-                return xWithYZDiagonal;
-            } else if ((direction.isFacingAtLeast(Face.POSITIVE_Z, Face.NEGATIVE_Z)) && direction.x() == 0) {
-                return zWithXYDiagonal;
-            }
-        } else if (direction.isFacingAtLeast(Face.POSITIVE_Z, Face.NEGATIVE_Z)) {
-            if ((direction.isFacingAtLeast(Face.POSITIVE_X, Face.NEGATIVE_X)) && direction.y() == 0) {
-                return xWithYZDiagonal;
-            } else if ((direction.isFacingAtLeast(Face.POSITIVE_Y, Face.NEGATIVE_Y)) && direction.x() == 0) {
-                return yWithXZDiagonal;
-            }
-        }
-
-        // When the cross-section is a body-diagonal.
-        final double bodyDiagonal = Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2) + Math.pow(z, 2));
+        final double dx = Math.abs(direction.x());
+        final double dy = Math.abs(direction.y());
+        final double dz = Math.abs(direction.z());
 
-        if (!direction.isZero()) return bodyDiagonal;
+        // Axis-aligned directions
+        if (dy == 0 && dz == 0) return dx == 0 ? 0 : getCrossSectionYZ();
+        if (dx == 0 && dz == 0) return getCrossSectionXZ();
+        if (dx == 0 && dy == 0) return getCrossSectionXY();
 
-        return 0;
+        final double magnitude = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        return (dx * getCrossSectionYZ() + dy * getCrossSectionXZ() + dz * getCrossSectionXY()) / magnitude;
     }
 
     /**
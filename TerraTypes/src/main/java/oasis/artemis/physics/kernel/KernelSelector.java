@@ -0,0 +1,31 @@
+package oasis.artemis.physics.kernel;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>KernelSelector</h2>
+ * <p>
+ * Selects the default {@link PhysicsKernel} once per JVM.
+ * </p>
+ */
+final class KernelSelector {
+    private KernelSelector() {}
+
+    // Loads the vectorized kernel only if its module is present
+    @Nonnull
+    private static PhysicsKernel select() {
+        if ("scalar".equalsIgnoreCase(System.getProperty(PhysicsKernel.KERNEL_PROPERTY))) return ScalarPhysicsKernel.INSTANCE;
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) return ScalarPhysicsKernel.INSTANCE;
+
+        try {
+            return (PhysicsKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarPhysicsKernel.INSTANCE;
+        }
+    }
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "oasis.artemis.physics.kernel.VectorPhysicsKernel";
+
+    static final PhysicsKernel DEFAULT = select();
+}
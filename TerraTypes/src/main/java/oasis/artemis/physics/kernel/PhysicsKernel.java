@@ -0,0 +1,102 @@
+package oasis.artemis.physics.kernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>PhysicsKernel</h2>
+ * <p>
+ * A physics kernel applies the same calculation to many objects at once.
+ * Objects are laid out as primitive arrays, one array per component,
+ * where the values at the same index belong to the same object.
+ * Only the first {@code count} elements of each array are processed.
+ * </p>
+ * <p>
+ * {@link PhysicsKernel#getDefault()} uses SIMD instructions through the {@code jdk.incubator.vector} module
+ * when this module was built with the {@code vector} profile and the JVM was started with {@code --add-modules jdk.incubator.vector},
+ * and falls back to {@link ScalarPhysicsKernel} otherwise.
+ * Setting the system property {@value PhysicsKernel#KERNEL_PROPERTY} to {@code scalar} always uses the fallback.
+ * </p>
+ */
+public interface PhysicsKernel {
+    /**
+     * Gets the default kernel of this JVM.
+     *
+     * @return Vectorized kernel if available, scalar kernel otherwise
+     */
+    @Nonnull
+    static PhysicsKernel getDefault() {
+        return KernelSelector.DEFAULT;
+    }
+
+    /**
+     * Multiplies every vector by given scalar.
+     *
+     * @param x      X components
+     * @param y      Y components
+     * @param z      Z components
+     * @param scalar Scalar
+     * @param count  Number of vectors
+     */
+    void scale(@Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z, double scalar, @Nonnegative int count);
+
+    /**
+     * Clamps every component to the symmetric range of its limit, keeping its sign.
+     *
+     * @param x      X components
+     * @param y      Y components
+     * @param z      Z components
+     * @param limitX Maximum magnitudes of X
+     * @param limitY Maximum magnitudes of Y
+     * @param limitZ Maximum magnitudes of Z
+     * @param count  Number of vectors
+     */
+    void clamp(
+            @Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z,
+            @Nonnull double[] limitX, @Nonnull double[] limitY, @Nonnull double[] limitZ,
+            @Nonnegative int count
+    );
+
+    /**
+     * Moves every position by its velocity over given time step.
+     *
+     * @param px    X coordinates
+     * @param py    Y coordinates
+     * @param pz    Z coordinates
+     * @param vx    X velocities
+     * @param vy    Y velocities
+     * @param vz    Z velocities
+     * @param step  Time step to multiply velocities by
+     * @param count Number of positions
+     */
+    void integrate(
+            @Nonnull double[] px, @Nonnull double[] py, @Nonnull double[] pz,
+            @Nonnull double[] vx, @Nonnull double[] vy, @Nonnull double[] vz,
+            double step, @Nonnegative int count
+    );
+
+    /**
+     * Subtracts gravity from the Y velocity of every object.
+     *
+     * @param vy      Y velocities
+     * @param gravity Gravity to subtract
+     * @param count   Number of objects
+     */
+    void applyGravity(@Nonnull double[] vy, double gravity, @Nonnegative int count);
+
+    /**
+     * Multiplies every velocity by its own deceleration ratio.
+     *
+     * @param vx     X velocities
+     * @param vy     Y velocities
+     * @param vz     Z velocities
+     * @param ratios Deceleration ratios
+     * @param count  Number of objects
+     */
+    void applyDrag(@Nonnull double[] vx, @Nonnull double[] vy, @Nonnull double[] vz, @Nonnull double[] ratios, @Nonnegative int count);
+
+    /**
+     * The system property used to force the scalar kernel.
+     */
+    String KERNEL_PROPERTY = "terra.kernel";
+}
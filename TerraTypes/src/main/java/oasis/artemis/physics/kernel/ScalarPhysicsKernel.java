@@ -0,0 +1,95 @@
+package oasis.artemis.physics.kernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>ScalarPhysicsKernel</h2>
+ * <p>
+ * A {@link PhysicsKernel} which processes one object at a time.
+ * This is available on every JVM.
+ * </p>
+ */
+public final class ScalarPhysicsKernel implements PhysicsKernel {
+    /**
+     * The shared instance.
+     */
+    public static final ScalarPhysicsKernel INSTANCE = new ScalarPhysicsKernel();
+
+    private ScalarPhysicsKernel() {}
+
+    @Override
+    public void scale(@Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z, double scalar, @Nonnegative int count) {
+        scale(x, y, z, scalar, 0, count);
+    }
+
+    @Override
+    public void clamp(
+            @Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z,
+            @Nonnull double[] limitX, @Nonnull double[] limitY, @Nonnull double[] limitZ,
+            @Nonnegative int count
+    ) {
+        clamp(x, y, z, limitX, limitY, limitZ, 0, count);
+    }
+
+    @Override
+    public void integrate(
+            @Nonnull double[] px, @Nonnull double[] py, @Nonnull double[] pz,
+            @Nonnull double[] vx, @Nonnull double[] vy, @Nonnull double[] vz,
+            double step, @Nonnegative int count
+    ) {
+        integrate(px, py, pz, vx, vy, vz, step, 0, count);
+    }
+
+    @Override
+    public void applyGravity(@Nonnull double[] vy, double gravity, @Nonnegative int count) {
+        applyGravity(vy, gravity, 0, count);
+    }
+
+    @Override
+    public void applyDrag(@Nonnull double[] vx, @Nonnull double[] vy, @Nonnull double[] vz, @Nonnull double[] ratios, @Nonnegative int count) {
+        applyDrag(vx, vy, vz, ratios, 0, count);
+    }
+
+    //
+    // Ranged variants, also used for the tails of vectorized kernels
+    //
+
+    static void scale(double[] x, double[] y, double[] z, double scalar, int from, int to) {
+        for (int i = from; i < to; i++) {
+            x[i] *= scalar;
+            y[i] *= scalar;
+            z[i] *= scalar;
+        }
+    }
+
+    static void clamp(double[] x, double[] y, double[] z, double[] limitX, double[] limitY, double[] limitZ, int from, int to) {
+        for (int i = from; i < to; i++) {
+            x[i] = Math.max(-limitX[i], Math.min(limitX[i], x[i]));
+            y[i] = Math.max(-limitY[i], Math.min(limitY[i], y[i]));
+            z[i] = Math.max(-limitZ[i], Math.min(limitZ[i], z[i]));
+        }
+    }
+
+    static void integrate(double[] px, double[] py, double[] pz, double[] vx, double[] vy, double[] vz, double step, int from, int to) {
+        for (int i = from; i < to; i++) {
+            px[i] += vx[i] * step;
+            py[i] += vy[i] * step;
+            pz[i] += vz[i] * step;
+        }
+    }
+
+    static void applyGravity(double[] vy, double gravity, int from, int to) {
+        for (int i = from; i < to; i++) {
+            vy[i] -= gravity;
+        }
+    }
+
+    static void applyDrag(double[] vx, double[] vy, double[] vz, double[] ratios, int from, int to) {
+        for (int i = from; i < to; i++) {
+            vx[i] *= ratios[i];
+            vy[i] *= ratios[i];
+            vz[i] *= ratios[i];
+        }
+    }
+}
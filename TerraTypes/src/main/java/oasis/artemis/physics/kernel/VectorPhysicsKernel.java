@@ -0,0 +1,107 @@
+package oasis.artemis.physics.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * <h2>VectorPhysicsKernel</h2>
+ * <p>
+ * A {@link PhysicsKernel} which processes as many objects per instruction as the CPU supports,
+ * using the {@code jdk.incubator.vector} module.
+ * Elements which do not fill a whole vector are processed by {@link ScalarPhysicsKernel}.
+ * </p>
+ * <p>
+ * This class must only be loaded when the module is present. Use {@link PhysicsKernel#getDefault()}.
+ * </p>
+ */
+final class VectorPhysicsKernel implements PhysicsKernel {
+    @Override
+    public void scale(@Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z, double scalar, @Nonnegative int count) {
+        final int bound = SPECIES.loopBound(count);
+
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, i).mul(scalar).intoArray(x, i);
+            DoubleVector.fromArray(SPECIES, y, i).mul(scalar).intoArray(y, i);
+            DoubleVector.fromArray(SPECIES, z, i).mul(scalar).intoArray(z, i);
+        }
+
+        ScalarPhysicsKernel.scale(x, y, z, scalar, bound, count);
+    }
+
+    @Override
+    public void clamp(
+            @Nonnull double[] x, @Nonnull double[] y, @Nonnull double[] z,
+            @Nonnull double[] limitX, @Nonnull double[] limitY, @Nonnull double[] limitZ,
+            @Nonnegative int count
+    ) {
+        final int bound = SPECIES.loopBound(count);
+
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            clamp(x, limitX, i);
+            clamp(y, limitY, i);
+            clamp(z, limitZ, i);
+        }
+
+        ScalarPhysicsKernel.clamp(x, y, z, limitX, limitY, limitZ, bound, count);
+    }
+
+    @Override
+    public void integrate(
+            @Nonnull double[] px, @Nonnull double[] py, @Nonnull double[] pz,
+            @Nonnull double[] vx, @Nonnull double[] vy, @Nonnull double[] vz,
+            double step, @Nonnegative int count
+    ) {
+        final int bound = SPECIES.loopBound(count);
+
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            integrate(px, vx, step, i);
+            integrate(py, vy, step, i);
+            integrate(pz, vz, step, i);
+        }
+
+        ScalarPhysicsKernel.integrate(px, py, pz, vx, vy, vz, step, bound, count);
+    }
+
+    @Override
+    public void applyGravity(@Nonnull double[] vy, double gravity, @Nonnegative int count) {
+        final int bound = SPECIES.loopBound(count);
+
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, vy, i).sub(gravity).intoArray(vy, i);
+        }
+
+        ScalarPhysicsKernel.applyGravity(vy, gravity, bound, count);
+    }
+
+    @Override
+    public void applyDrag(@Nonnull double[] vx, @Nonnull double[] vy, @Nonnull double[] vz, @Nonnull double[] ratios, @Nonnegative int count) {
+        final int bound = SPECIES.loopBound(count);
+
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final DoubleVector ratio = DoubleVector.fromArray(SPECIES, ratios, i);
+
+            DoubleVector.fromArray(SPECIES, vx, i).mul(ratio).intoArray(vx, i);
+            DoubleVector.fromArray(SPECIES, vy, i).mul(ratio).intoArray(vy, i);
+            DoubleVector.fromArray(SPECIES, vz, i).mul(ratio).intoArray(vz, i);
+        }
+
+        ScalarPhysicsKernel.applyDrag(vx, vy, vz, ratios, bound, count);
+    }
+
+    // Clamps one vector of components to their limits
+    private static void clamp(double[] values, double[] limits, int i) {
+        final DoubleVector limit = DoubleVector.fromArray(SPECIES, limits, i);
+        DoubleVector.fromArray(SPECIES, values, i).max(limit.neg()).min(limit).intoArray(values, i);
+    }
+
+    // Adds one vector of velocities to positions
+    private static void integrate(double[] positions, double[] velocities, double step, int i) {
+        final DoubleVector velocity = DoubleVector.fromArray(SPECIES, velocities, i);
+        DoubleVector.fromArray(SPECIES, positions, i).add(velocity.mul(step)).intoArray(positions, i);
+    }
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+}
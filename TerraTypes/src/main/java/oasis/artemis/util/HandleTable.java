@@ -0,0 +1,222 @@
+package oasis.artemis.util;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <h2>HandleTable</h2>
+ * <p>
+ * Issues compact {@code int} handles to elements, and resolves handles back to their elements.
+ * </p>
+ * <p>
+ * The lower {@value HandleTable#INDEX_BITS} bits of a handle are the index of its slot,
+ * so handles can be used directly as array indices with {@link HandleTable#indexOf(int)}.
+ * The upper bits are the generation of the slot, which is incremented every time the slot is released.
+ * A slot whose generation is exhausted is retired instead of wrapping around, and is never reused.
+ * A stale handle of a released element therefore never resolves to an element which later reuses its slot.
+ * </p>
+ * <p>
+ * Generations start at {@code 1}, so {@link HandleTable#NONE} is never issued.
+ * Handle tables are not thread-safe.
+ * </p>
+ *
+ * @param <E> Type of element
+ */
+public final class HandleTable<E> implements Serializable {
+    /**
+     * Creates a new empty handle table.
+     */
+    public HandleTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new handle table which can hold given number of elements without resizing.
+     *
+     * @param initialCapacity Initial capacity
+     */
+    public HandleTable(@Nonnegative int initialCapacity) {
+        final int capacity = Math.max(1, initialCapacity);
+
+        this.elements = new Object[capacity];
+        this.generations = new int[capacity];
+        this.free = new int[capacity];
+    }
+
+    /**
+     * Gets the index of given handle.
+     *
+     * @param handle Handle
+     * @return Index of the slot
+     */
+    @Nonnegative
+    public static int indexOf(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    /**
+     * Gets the generation of given handle.
+     *
+     * @param handle Handle
+     * @return Generation of the slot
+     */
+    @Nonnegative
+    public static int generationOf(int handle) {
+        return handle >>> INDEX_BITS;
+    }
+
+    /**
+     * Issues a new handle to given element.
+     * Released slots are reused before new slots are allocated.
+     *
+     * @param element Element to issue a handle to
+     * @return Handle
+     * @throws IllegalStateException When every possible index is in use
+     */
+    public int issue(@Nonnull E element) throws IllegalStateException {
+        final int index;
+
+        if (freeCount > 0) {
+            index = free[--freeCount];
+        } else {
+            if (next > INDEX_MASK) throw new IllegalStateException("Handle table is full");
+            if (next == elements.length) grow();
+
+            index = next++;
+            generations[index] = 1;
+        }
+
+        elements[index] = element;
+        size++;
+
+        return (generations[index] << INDEX_BITS) | index;
+    }
+
+    /**
+     * Releases given handle.
+     * The handle and every copy of it become invalid, and its slot may be reused.
+     * A slot which has been released {@value HandleTable#MAX_GENERATION} times is retired instead.
+     *
+     * @param handle Handle to release
+     * @return {@code true} if the handle was valid
+     */
+    public boolean release(int handle) {
+        if (!isValid(handle)) return false;
+
+        final int index = indexOf(handle);
+        final int generation = generations[index] + 1;
+
+        elements[index] = null;
+        size--;
+
+        // Wrapping around would let stale handles resolve again, so exhausted slots are retired
+        if (generation > MAX_GENERATION) return true;
+
+        generations[index] = generation;
+        free[freeCount++] = index;
+
+        return true;
+    }
+
+    /**
+     * Ensures that given number of additional elements can be issued handles without resizing.
+     *
+     * @param count Number of additional elements
+     */
+    public void ensureCapacity(@Nonnegative int count) {
+        final long required = (long) next + Math.max(0, count - freeCount);
+        if (required <= elements.length) return;
+
+        resize((int) Math.min(Math.max(required, (long) elements.length * 2), INDEX_MASK + 1L));
+    }
+
+    /**
+     * Gets the element of given handle.
+     *
+     * @param handle Handle
+     * @return Element, or {@code null} if the handle is not valid
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public E get(int handle) {
+        return isValid(handle) ? (E) elements[indexOf(handle)] : null;
+    }
+
+    /**
+     * Checks if given handle was issued by this table, and has not been released since.
+     *
+     * @param handle Handle to check
+     * @return {@code true} if the handle is valid
+     */
+    public boolean isValid(int handle) {
+        final int index = indexOf(handle);
+        return index < next && elements[index] != null && generations[index] == generationOf(handle);
+    }
+
+    /**
+     * Gets the number of elements which currently have a handle.
+     *
+     * @return Number of elements
+     */
+    @Nonnegative
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of slots which have ever been used, including retired slots.
+     * Every valid handle has an index below this value.
+     *
+     * @return Number of slots
+     */
+    @Nonnegative
+    public int slots() {
+        return next;
+    }
+
+    // Doubles the capacity of every array
+    private void grow() {
+        resize((int) Math.min((long) elements.length * 2, INDEX_MASK + 1L));
+    }
+
+    // Resizes every array to given capacity
+    private void resize(@Nonnegative int capacity) {
+        elements = Arrays.copyOf(elements, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        free = Arrays.copyOf(free, capacity);
+    }
+
+    /**
+     * The handle which is never issued.
+     */
+    public static final int NONE = 0;
+
+    /**
+     * The number of bits used for the index of a handle.
+     */
+    public static final int INDEX_BITS = 24;
+
+    /**
+     * The highest generation a slot can reach before it is retired.
+     */
+    public static final int MAX_GENERATION = (1 << (Integer.SIZE - INDEX_BITS)) - 1;
+
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Nonnull
+    private Object[] elements;
+    @Nonnull
+    private int[] generations;
+    @Nonnull
+    private int[] free;
+    @Nonnegative
+    private int freeCount = 0;
+    @Nonnegative
+    private int next = 0;
+    @Nonnegative
+    private int size = 0;
+}
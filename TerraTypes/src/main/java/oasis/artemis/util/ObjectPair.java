@@ -8,6 +8,7 @@ import javax.annotation.Nonnull;
 
 /**
  * An object pair represents a relationship between two objects.
+ * The handles of both objects can be packed into a single {@code long} with {@link ObjectPair#key()}.
  *
  * @param object1 First object
  * @param object2 Second object
@@ -32,7 +33,33 @@ public record ObjectPair(
      * @return {@code true} if either object 1 or object 2 equals given object
      */
     public boolean contains(@Nonnull TObject object) {
-        return list().contains(object);
+        return object1.equals(object) || object2.equals(object);
+    }
+
+    /**
+     * Gets the key of this pair, composed of the handles of both objects.
+     * Keys are only meaningful while both objects remain in the same world.
+     *
+     * @return Key of this pair
+     * @see ObjectPair#key(int, int)
+     */
+    public long key() {
+        return key(object1.getHandle(), object2.getHandle());
+    }
+
+    /**
+     * Packs two handles into an unordered pair key.
+     * The order of the handles is ignored, so {@code key(a, b) == key(b, a)}.
+     *
+     * @param handle1 First handle
+     * @param handle2 Second handle
+     * @return Key of the pair
+     * @see TObject#getHandle()
+     */
+    public static long key(int handle1, int handle2) {
+        final long h1 = Integer.toUnsignedLong(handle1);
+        final long h2 = Integer.toUnsignedLong(handle2);
+        return h1 < h2 ? (h1 << 32) | h2 : (h2 << 32) | h1;
     }
 
     /**
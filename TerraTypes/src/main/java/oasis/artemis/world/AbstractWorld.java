@@ -1,11 +1,18 @@
 package oasis.artemis.world;
 
-import oasis.artemis.collection.set.THashSet;
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.collection.set.TPersistentSet;
 import oasis.artemis.collection.set.TSet;
+import oasis.artemis.object.ImmovableObject;
 import oasis.artemis.object.TObject;
+import oasis.artemis.physics.AabbTree;
 import oasis.artemis.string.TString;
+import oasis.artemis.util.HandleTable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.validation.constraints.Positive;
 import java.util.UUID;
 
@@ -15,6 +22,23 @@ import java.util.UUID;
  * An abstract world is the base platform for easier development.
  * There are no built-in restrictions to parameters.
  * </p>
+ * <p>
+ * Objects are stored in a {@link TPersistentSet}, so {@link AbstractWorld#getObjects()} returns
+ * the current version as-is without copying or locking.
+ * Adding or removing an object creates a new version in O(log n), sharing structure with the previous one.
+ * Returned snapshots are immutable, so they can be read from any thread.
+ * </p>
+ * <p>
+ * Handles of objects are issued by a {@link HandleTable} owned by this world.
+ * </p>
+ * <p>
+ * Immovable objects are also kept apart from dynamic objects, and indexed by an {@link AabbTree}.
+ * The tree is only rebuilt when it is queried after an immovable object was added or removed.
+ * </p>
+ * <p>
+ * The positions of objects are published to other threads through a {@link WorldStateBuffer},
+ * and deferred operations are recorded in a {@link CommandBuffer}, both owned by this world.
+ * </p>
  */
 public abstract class AbstractWorld implements World {
     /**
@@ -26,7 +50,7 @@ public abstract class AbstractWorld implements World {
     public AbstractWorld(@Nonnull UUID uniqueId, @Nonnull TString name) {
         this.uniqueId = uniqueId;
         this.name = name;
-        this.objects = new THashSet<>();
+        this.objects = TPersistentSet.empty();
         this.gravity = World.DEFAULT_GRAVITY;
         this.airDensity = World.DEFAULT_AIR_DENSITY;
         this.groundLevel = World.DEFAULT_GROUND_LEVEL;
@@ -44,7 +68,7 @@ public abstract class AbstractWorld implements World {
     public AbstractWorld(@Nonnull UUID uniqueId, @Nonnull TString name, double gravity, double airDensity, double groundLevel) {
         this.uniqueId = uniqueId;
         this.name = name;
-        this.objects = new THashSet<>();
+        this.objects = TPersistentSet.empty();
         this.gravity = gravity;
         this.airDensity = airDensity;
         this.groundLevel = groundLevel;
@@ -52,6 +76,7 @@ public abstract class AbstractWorld implements World {
 
     /**
      * Default all-args constructor.
+     * Given objects are copied, so later changes to the set are not reflected.
      *
      * @param uniqueId    Unique ID of this world
      * @param name        Name of this world
@@ -63,7 +88,8 @@ public abstract class AbstractWorld implements World {
     public AbstractWorld(@Nonnull UUID uniqueId, @Nonnull TString name, @Nonnull TSet<TObject> objects, double gravity, double airDensity, double groundLevel) {
         this.uniqueId = uniqueId;
         this.name = name;
-        this.objects = objects;
+        this.objects = TPersistentSet.empty();
+        addAll(objects);
         this.gravity = gravity;
         this.airDensity = airDensity;
         this.groundLevel = groundLevel;
@@ -74,7 +100,21 @@ public abstract class AbstractWorld implements World {
     @Nonnull
     private TString name;
     @Nonnull
-    private final TSet<TObject> objects;
+    private volatile TPersistentSet<TObject> objects;
+    @Nonnull
+    private volatile TPersistentSet<TObject> dynamicObjects = TPersistentSet.empty();
+    @Nonnull
+    private volatile TPersistentSet<ImmovableObject> staticObjects = TPersistentSet.empty();
+    // Built when first queried after the static objects change
+    @Nullable
+    private transient AabbTree<ImmovableObject> staticIndex;
+    @Nonnull
+    private final HandleTable<TObject> handles = new HandleTable<>();
+    @Nonnull
+    private final WorldStateBuffer stateBuffer = new WorldStateBuffer();
+    @Nonnull
+    private final CommandBuffer commandBuffer = new CommandBuffer();
+    private volatile long objectsVersion;
     private double gravity;
     @Positive
     private double airDensity;
@@ -95,7 +135,55 @@ public abstract class AbstractWorld implements World {
     @Override
     @Nonnull
     public TSet<TObject> getObjects() {
-        return new THashSet<>(objects);
+        return objects;
+    }
+
+    @Nonnull
+    @Override
+    public TSet<TObject> getDynamicObjects() {
+        return dynamicObjects;
+    }
+
+    @Nonnull
+    @Override
+    public TSet<ImmovableObject> getStaticObjects() {
+        return staticObjects;
+    }
+
+    @Nonnull
+    @Override
+    public synchronized AabbTree<ImmovableObject> getStaticIndex() {
+        AabbTree<ImmovableObject> index = staticIndex;
+
+        if (index == null) {
+            index = AabbTree.build(staticObjects, TObject::getAabb);
+            this.staticIndex = index;
+        }
+
+        return index;
+    }
+
+    @Override
+    public long getObjectsVersion() {
+        return objectsVersion;
+    }
+
+    @Nullable
+    @Override
+    public synchronized TObject getObject(int handle) {
+        return handles.get(handle);
+    }
+
+    @Nonnull
+    @Override
+    public WorldStateBuffer getStateBuffer() {
+        return stateBuffer;
+    }
+
+    @Nonnull
+    @Override
+    public CommandBuffer getCommandBuffer() {
+        return commandBuffer;
     }
 
     @Override
@@ -119,13 +207,109 @@ public abstract class AbstractWorld implements World {
     }
 
     @Override
-    public void addObject(@Nonnull TObject object) {
-        objects.add(object);
+    public synchronized void addObject(@Nonnull TObject object) {
+        add(object);
     }
 
     @Override
-    public void removeObject(@Nonnull TObject object) {
-        objects.remove(object);
+    public synchronized void removeObject(@Nonnull TObject object) {
+        final TPersistentSet<TObject> newObjects = objects.minus(object);
+        if (newObjects == objects) return;
+
+        if (object instanceof ImmovableObject) setStaticObjects(staticObjects.minus(object));
+        else dynamicObjects = dynamicObjects.minus(object);
+
+        setObjects(newObjects);
+
+        // The object may have since been added to another world, and hold a handle of that world
+        if (handles.get(object.getHandle()) != object) return;
+
+        handles.release(object.getHandle());
+        object.setHandle(HandleTable.NONE);
+    }
+
+    @Override
+    public synchronized void addObjects(@Nonnull TCollection<? extends TObject> objects) {
+        addAll(objects);
+    }
+
+    @Override
+    public synchronized void removeObjects(@Nonnull TCollection<? extends TObject> objects) {
+        final TPersistentSet<TObject> oldObjects = this.objects;
+        final TPersistentSet<TObject> newObjects = oldObjects.minusAll(objects);
+        if (newObjects == oldObjects) return;
+
+        final TList<TObject> removedDynamic = new TArray<>();
+        final TList<TObject> removedStatic = new TArray<>();
+
+        for (TObject object : objects) {
+            if (!oldObjects.contains(object)) continue;
+
+            if (object instanceof ImmovableObject) removedStatic.add(object);
+            else removedDynamic.add(object);
+        }
+
+        if (!removedStatic.isEmpty()) setStaticObjects(staticObjects.minusAll(removedStatic));
+        dynamicObjects = dynamicObjects.minusAll(removedDynamic);
+        setObjects(newObjects);
+
+        for (TObject object : objects) {
+            // Duplicates in the batch were already released, and objects may hold a handle of another world
+            if (handles.get(object.getHandle()) != object) continue;
+
+            handles.release(object.getHandle());
+            object.setHandle(HandleTable.NONE);
+        }
+    }
+
+    // Issues a handle to an object before publishing it, must be called while synchronized on this world
+    private void add(@Nonnull TObject object) {
+        final TPersistentSet<TObject> newObjects = objects.plus(object);
+        if (newObjects == objects) return;
+
+        object.setHandle(handles.issue(object));
+
+        if (object instanceof ImmovableObject immovable) setStaticObjects(staticObjects.plus(immovable));
+        else dynamicObjects = dynamicObjects.plus(object);
+
+        setObjects(newObjects);
+    }
+
+    // Issues handles to many objects before publishing them, must be called while synchronized on this world
+    private void addAll(@Nonnull TCollection<? extends TObject> objects) {
+        final TPersistentSet<TObject> oldObjects = this.objects;
+        final TPersistentSet<TObject> newObjects = oldObjects.plusAll(objects);
+        if (newObjects == oldObjects) return;
+
+        handles.ensureCapacity(newObjects.size() - oldObjects.size());
+
+        final TList<TObject> addedDynamic = new TArray<>();
+        final TList<ImmovableObject> addedStatic = new TArray<>();
+
+        for (TObject object : objects) {
+            // Duplicates in the batch were issued a handle already
+            if (oldObjects.contains(object) || handles.get(object.getHandle()) == object) continue;
+            object.setHandle(handles.issue(object));
+
+            if (object instanceof ImmovableObject immovable) addedStatic.add(immovable);
+            else addedDynamic.add(object);
+        }
+
+        if (!addedStatic.isEmpty()) setStaticObjects(staticObjects.plusAll(addedStatic));
+        dynamicObjects = dynamicObjects.plusAll(addedDynamic);
+        setObjects(newObjects);
+    }
+
+    // Replaces the static objects and discards their index, must be called while synchronized on this world
+    private void setStaticObjects(@Nonnull TPersistentSet<ImmovableObject> staticObjects) {
+        this.staticObjects = staticObjects;
+        this.staticIndex = null;
+    }
+
+    // Publishes a new version of objects, must be called while synchronized on this world
+    private void setObjects(@Nonnull TPersistentSet<TObject> objects) {
+        objectsVersion++;
+        this.objects = objects;
     }
 
     @Override
@@ -0,0 +1,183 @@
+package oasis.artemis.world;
+
+import oasis.artemis.collection.TCollection;
+import oasis.artemis.collection.list.TArray;
+import oasis.artemis.collection.list.TList;
+import oasis.artemis.object.TObject;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * <h2>CommandBuffer</h2>
+ * <p>
+ * Records operations on a world, so that they are applied at a defined point instead of immediately.
+ * Spawning a projectile from a listener, or removing objects while physics iterates them,
+ * should go through the command buffer of the world.
+ * </p>
+ * <p>
+ * Commands are applied in the order they were recorded.
+ * Commands recorded while the buffer is being flushed are applied on the next flush.
+ * </p>
+ * <p>
+ * Every world owns a command buffer, which is flushed by the engine at the start of each physics step.
+ * Parallel steps can record into their own buffers without contention,
+ * then move them into the buffer of the world with {@link CommandBuffer#drainTo(CommandBuffer)}.
+ * </p>
+ * <p>
+ * Commands are not serialized. A deserialized buffer is empty.
+ * </p>
+ */
+public final class CommandBuffer implements Serializable {
+    /**
+     * Creates a new empty command buffer.
+     */
+    public CommandBuffer() {
+        this.commands = new TArray<>();
+    }
+
+    /**
+     * Records a command.
+     *
+     * @param command Command to record
+     */
+    public synchronized void add(@Nonnull Command command) {
+        commands.add(command);
+    }
+
+    /**
+     * Records the addition of an object.
+     *
+     * @param object Object to add
+     * @see World#addObject(TObject)
+     */
+    public void spawn(@Nonnull TObject object) {
+        add(world -> world.addObject(object));
+    }
+
+    /**
+     * Records the removal of an object.
+     *
+     * @param object Object to remove
+     * @see World#removeObject(TObject)
+     */
+    public void despawn(@Nonnull TObject object) {
+        add(world -> world.removeObject(object));
+    }
+
+    /**
+     * Records the addition of many objects, which are added in a single batch.
+     *
+     * @param objects Objects to add
+     * @see World#addObjects(TCollection)
+     */
+    public void spawnAll(@Nonnull TCollection<? extends TObject> objects) {
+        add(world -> world.addObjects(objects));
+    }
+
+    /**
+     * Records the removal of many objects, which are removed in a single batch.
+     *
+     * @param objects Objects to remove
+     * @see World#removeObjects(TCollection)
+     */
+    public void despawnAll(@Nonnull TCollection<? extends TObject> objects) {
+        add(world -> world.removeObjects(objects));
+    }
+
+    /**
+     * Records a modification of an object, such as setting its location or vector.
+     *
+     * @param object Object to modify
+     * @param action Action to apply to the object
+     * @param <T>    Type of object
+     */
+    public <T extends TObject> void modify(@Nonnull T object, @Nonnull Consumer<? super T> action) {
+        add(world -> action.accept(object));
+    }
+
+    /**
+     * Gets the number of commands which have not been applied.
+     *
+     * @return Number of commands
+     */
+    @Nonnegative
+    public synchronized int size() {
+        return commands.size();
+    }
+
+    /**
+     * Checks if there are no commands to apply.
+     *
+     * @return {@code true} if this buffer is empty
+     */
+    public synchronized boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * Moves every command of this buffer to the end of another buffer.
+     * This buffer is empty afterwards.
+     *
+     * @param other Buffer to move to
+     */
+    public void drainTo(@Nonnull CommandBuffer other) {
+        if (other == this) return;
+
+        final TList<Command> drained = take();
+        if (drained.isEmpty()) return;
+
+        synchronized (other) {
+            other.commands.addAll(drained);
+        }
+    }
+
+    /**
+     * Applies every command of this buffer to given world, then clears this buffer.
+     * Commands are applied outside the lock of this buffer, so they can record new commands.
+     *
+     * @param world World to apply to
+     */
+    public void flush(@Nonnull World world) {
+        final TList<Command> flushed = take();
+        for (Command command : flushed) command.apply(world);
+    }
+
+    // Takes every command out of this buffer
+    @Nonnull
+    private synchronized TList<Command> take() {
+        if (commands.isEmpty()) return EMPTY;
+
+        final TList<Command> taken = commands;
+        this.commands = new TArray<>(Math.max(taken.size(), DEFAULT_CAPACITY));
+        return taken;
+    }
+
+    // Commands are not serializable, so a fresh buffer is used after deserialization
+    @Serial
+    private Object readResolve() {
+        return new CommandBuffer();
+    }
+
+    /**
+     * A deferred operation on a world.
+     */
+    @FunctionalInterface
+    public interface Command {
+        /**
+         * Applies this command.
+         *
+         * @param world World to apply to
+         */
+        void apply(@Nonnull World world);
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final TList<Command> EMPTY = new TArray<>(0);
+
+    @Nonnull
+    private transient TList<Command> commands;
+}
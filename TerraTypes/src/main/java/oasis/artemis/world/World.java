@@ -1,12 +1,16 @@
 package oasis.artemis.world;
 
+import oasis.artemis.collection.TCollection;
 import oasis.artemis.collection.set.TSet;
+import oasis.artemis.object.ImmovableObject;
 import oasis.artemis.object.TObject;
+import oasis.artemis.physics.AabbTree;
 import oasis.artemis.string.TString;
 import oasis.artemis.util.Tickable;
 import oasis.artemis.util.Unique;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.validation.constraints.Positive;
 import java.io.Serializable;
 
@@ -42,27 +46,119 @@ public interface World extends Unique, Tickable, Serializable {
     //
 
     /**
-     * Gets a set of objects in this world.
+     * Gets an unmodifiable snapshot of the objects in this world.
+     * The snapshot is shared by every caller until the objects of this world are next modified,
+     * so this method is cheap to call repeatedly.
+     * Use {@link World#addObject(TObject)} and {@link World#removeObject(TObject)} to modify the objects.
      *
-     * @return set of objects
+     * @return Unmodifiable set of objects
      */
     @Nonnull
     TSet<TObject> getObjects();
 
     /**
-     * Adds an object to this world.
+     * Gets an unmodifiable snapshot of the objects in this world which are not {@link ImmovableObject}s.
+     * Physics tasks which only move objects should iterate this instead of {@link World#getObjects()}.
+     *
+     * @return Unmodifiable set of dynamic objects
+     */
+    @Nonnull
+    TSet<TObject> getDynamicObjects();
+
+    /**
+     * Gets an unmodifiable snapshot of the immovable objects in this world.
+     *
+     * @return Unmodifiable set of immovable objects
+     */
+    @Nonnull
+    TSet<ImmovableObject> getStaticObjects();
+
+    /**
+     * Gets the spatial index of the immovable objects in this world.
+     * Dynamic objects should be tested against immovable objects by querying this index,
+     * and immovable objects are never tested against each other.
+     * The index is rebuilt when queried after immovable objects are added or removed,
+     * so changing the volume of an immovable object already in this world is not reflected until then.
+     *
+     * @return {@link AabbTree} of immovable objects
+     */
+    @Nonnull
+    AabbTree<ImmovableObject> getStaticIndex();
+
+    /**
+     * Gets the version of the objects of this world.
+     * The version is incremented every time an object is added or removed.
+     * Two snapshots obtained at the same version are guaranteed to be equal.
+     *
+     * @return Version of objects
+     */
+    long getObjectsVersion();
+
+    /**
+     * Gets an object of this world by its handle.
+     *
+     * @param handle Handle of the object
+     * @return Object, or {@code null} if the handle is not valid in this world
+     * @see TObject#getHandle()
+     */
+    @Nullable
+    TObject getObject(int handle);
+
+    /**
+     * Adds an object to this world, and issues a handle to it.
      *
      * @param object Object to add
      */
     void addObject(@Nonnull TObject object);
 
     /**
-     * Removes an object from this world.
+     * Removes an object from this world, and releases its handle.
      *
      * @param object Object to remove
      */
     void removeObject(@Nonnull TObject object);
 
+    /**
+     * Adds many objects to this world at once, and issues a handle to each of them.
+     * Storage is sized once for the whole batch, and the objects are published as a single new version,
+     * so loading a level or spawning a volley is much cheaper than adding objects one by one.
+     *
+     * @param objects Objects to add
+     */
+    void addObjects(@Nonnull TCollection<? extends TObject> objects);
+
+    /**
+     * Removes many objects from this world at once, and releases their handles.
+     * The remaining objects are published as a single new version.
+     *
+     * @param objects Objects to remove
+     */
+    void removeObjects(@Nonnull TCollection<? extends TObject> objects);
+
+    //
+    // State
+    //
+
+    /**
+     * Gets the state buffer of this world.
+     * Threads other than the physics thread should read positions through
+     * {@link WorldStateBuffer#acquire()} instead of reading objects directly.
+     *
+     * @return {@link WorldStateBuffer}
+     */
+    @Nonnull
+    WorldStateBuffer getStateBuffer();
+
+    /**
+     * Gets the command buffer of this world.
+     * Objects should be added, removed or modified through this buffer
+     * from listeners, or while the objects of this world are being iterated.
+     *
+     * @return {@link CommandBuffer}
+     */
+    @Nonnull
+    CommandBuffer getCommandBuffer();
+
     //
     // Physics
     //
@@ -0,0 +1,192 @@
+package oasis.artemis.world;
+
+import oasis.artemis.object.TObject;
+import oasis.artemis.physics.Location;
+import oasis.artemis.physics.Vector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2>WorldState</h2>
+ * <p>
+ * A consistent copy of the positions and velocities of every object in a world,
+ * as they were at the end of a physics step.
+ * Objects are identified by their {@link TObject#getHandle() handles}, and stored as parallel arrays.
+ * </p>
+ * <p>
+ * States are obtained from {@link WorldStateBuffer#acquire()}, and are pinned until they are closed.
+ * A pinned state is never written to, so it can be read from any thread without locking.
+ * States are reused once closed, so do not keep a reference to a state after closing it.
+ * </p>
+ */
+public final class WorldState implements AutoCloseable {
+    // States are only created by buffers
+    WorldState() {
+        this.handles = new int[0];
+        this.x = new double[0];
+        this.y = new double[0];
+        this.z = new double[0];
+        this.vx = new double[0];
+        this.vy = new double[0];
+        this.vz = new double[0];
+    }
+
+    /**
+     * Gets the sequence number of this state.
+     * The sequence is incremented every time a state is published, and is zero before the first publication.
+     *
+     * @return Sequence number
+     */
+    @Nonnegative
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the version of the objects of the world when this state was written.
+     *
+     * @return Version of objects
+     * @see World#getObjectsVersion()
+     */
+    public long getObjectsVersion() {
+        return objectsVersion;
+    }
+
+    /**
+     * Gets the number of objects in this state.
+     *
+     * @return Number of objects
+     */
+    @Nonnegative
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the handle of an object.
+     * The object itself can be obtained with {@link World#getObject(int)}.
+     *
+     * @param index Index of the object
+     * @return Handle
+     */
+    public int getHandle(@Nonnegative int index) {
+        return handles[checkIndex(index)];
+    }
+
+    public double getX(@Nonnegative int index) {
+        return x[checkIndex(index)];
+    }
+
+    public double getY(@Nonnegative int index) {
+        return y[checkIndex(index)];
+    }
+
+    public double getZ(@Nonnegative int index) {
+        return z[checkIndex(index)];
+    }
+
+    public double getVelocityX(@Nonnegative int index) {
+        return vx[checkIndex(index)];
+    }
+
+    public double getVelocityY(@Nonnegative int index) {
+        return vy[checkIndex(index)];
+    }
+
+    public double getVelocityZ(@Nonnegative int index) {
+        return vz[checkIndex(index)];
+    }
+
+    /**
+     * Releases this state, so it can be reused by the buffer.
+     */
+    @Override
+    public void close() {
+        pins.decrementAndGet();
+    }
+
+    // Checks that an index is within the objects of this state
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return index;
+    }
+
+    //
+    // Writing
+    //
+
+    // Whether any reader has pinned this state
+    boolean isPinned() {
+        return pins.get() > 0;
+    }
+
+    // Pins this state, called by readers
+    void pin() {
+        pins.incrementAndGet();
+    }
+
+    // Overwrites this state with the objects of a world, called only by the writer
+    void write(@Nonnull Iterable<TObject> objects, @Nonnegative int count, long objectsVersion, @Nonnegative long sequence) {
+        ensureCapacity(count);
+
+        int i = 0;
+        for (TObject object : objects) {
+            if (i == count) break;
+
+            final Location location = object.getLocation();
+            final Vector vector = object.getVector();
+
+            handles[i] = object.getHandle();
+            x[i] = location.x();
+            y[i] = location.y();
+            z[i] = location.z();
+            vx[i] = vector.x();
+            vy[i] = vector.y();
+            vz[i] = vector.z();
+            i++;
+        }
+
+        this.size = i;
+        this.objectsVersion = objectsVersion;
+        this.sequence = sequence;
+    }
+
+    // Grows the arrays to hold at least given number of objects
+    private void ensureCapacity(@Nonnegative int count) {
+        if (handles.length >= count) return;
+
+        final int capacity = Math.max(count, handles.length * 2);
+
+        handles = new int[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        vz = new double[capacity];
+    }
+
+    @Nonnull
+    private final AtomicInteger pins = new AtomicInteger();
+    @Nonnegative
+    private long sequence;
+    private long objectsVersion;
+    @Nonnegative
+    private int size;
+    @Nonnull
+    private int[] handles;
+    @Nonnull
+    private double[] x;
+    @Nonnull
+    private double[] y;
+    @Nonnull
+    private double[] z;
+    @Nonnull
+    private double[] vx;
+    @Nonnull
+    private double[] vy;
+    @Nonnull
+    private double[] vz;
+}
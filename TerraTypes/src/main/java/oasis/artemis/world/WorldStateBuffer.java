@@ -0,0 +1,100 @@
+package oasis.artemis.world;
+
+import oasis.artemis.collection.set.TSet;
+import oasis.artemis.object.TObject;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * <h2>WorldStateBuffer</h2>
+ * <p>
+ * Holds a front and a back {@link WorldState} of a world.
+ * The physics thread writes the back state, then publishes it with a single volatile write,
+ * after which it becomes the front state.
+ * Renderers, network senders and savers read the front state from their own threads without locking.
+ * </p>
+ * <p>
+ * Readers pin the state they acquire. If the back state is still pinned when the writer needs it,
+ * the writer moves on to a new state instead of waiting, so neither side ever blocks the other.
+ * There must only be one writer per buffer.
+ * </p>
+ * <p>
+ * States are derived from the objects of the world, so they are not serialized.
+ * A deserialized buffer is empty until it is next published.
+ * </p>
+ */
+public final class WorldStateBuffer implements Serializable {
+    /**
+     * Creates a new buffer.
+     * Until the first publication, readers acquire an empty state.
+     */
+    public WorldStateBuffer() {
+        this.front = new WorldState();
+        this.back = new WorldState();
+    }
+
+    /**
+     * Acquires the front state, and pins it until it is closed.
+     * <pre>{@code
+     * try (WorldState state = buffer.acquire()) {
+     *     for (int i = 0; i < state.size(); i++) render(state.getHandle(i), state.getX(i), state.getY(i), state.getZ(i));
+     * }
+     * }</pre>
+     *
+     * @return Front state
+     */
+    @Nonnull
+    public WorldState acquire() {
+        while (true) {
+            final WorldState state = front;
+            state.pin();
+
+            // The writer may have swapped before the pin became visible, in which case it may be writing this state
+            if (state == front) return state;
+            state.close();
+        }
+    }
+
+    /**
+     * Gets the sequence number of the front state.
+     *
+     * @return Sequence number
+     */
+    @Nonnegative
+    public long getSequence() {
+        return front.getSequence();
+    }
+
+    /**
+     * Writes given objects into the back state, then publishes it as the front state.
+     * This must only be called from one thread.
+     *
+     * @param objects        Objects to write
+     * @param objectsVersion Version of the objects
+     */
+    public void publish(@Nonnull TSet<TObject> objects, long objectsVersion) {
+        WorldState state = back;
+        if (state.isPinned()) state = new WorldState();
+
+        final WorldState previous = front;
+        state.write(objects, objects.size(), objectsVersion, previous.getSequence() + 1);
+
+        this.front = state;
+        this.back = previous;
+    }
+
+    // States are derived data, so a fresh buffer is used after deserialization
+    @Serial
+    private Object readResolve() {
+        return new WorldStateBuffer();
+    }
+
+    @Nonnull
+    private transient volatile WorldState front;
+    // Only accessed by the writer
+    @Nonnull
+    private transient WorldState back;
+}
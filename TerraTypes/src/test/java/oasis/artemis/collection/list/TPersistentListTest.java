@@ -0,0 +1,106 @@
+package oasis.artemis.collection.list;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <h2>TPersistentListTest</h2>
+ * <p>
+ * Checks random sequences of operations on {@link TPersistentList} against an {@link ArrayList}.
+ * Sizes grow past several trie levels, and shrink back to empty.
+ * </p>
+ */
+class TPersistentListTest {
+    @Test
+    void randomOperationsMatchArrayList() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            final Random random = new Random(seed);
+            final List<Integer> model = new ArrayList<>();
+            TPersistentList<Integer> list = TPersistentList.empty();
+
+            for (int step = 0; step < STEPS; step++) {
+                final TPersistentList<Integer> before = list;
+                final List<Integer> modelBefore = new ArrayList<>(model);
+
+                // Grows in runs so every trie level is reached, then shrinks in runs so every level is collapsed
+                final int operation = random.nextInt(10);
+                final int run = 1 + random.nextInt(RUN);
+
+                if (operation < 5) {
+                    for (int i = 0; i < run; i++) {
+                        final int value = random.nextInt();
+                        list = list.plus(value);
+                        model.add(value);
+                    }
+                } else if (operation < 7 && !model.isEmpty()) {
+                    final int index = random.nextInt(model.size());
+                    final int value = random.nextInt();
+                    list = list.with(index, value);
+                    model.set(index, value);
+                } else {
+                    for (int i = 0; i < run && !model.isEmpty(); i++) {
+                        list = list.minusLast();
+                        model.remove(model.size() - 1);
+                    }
+                }
+
+                assertMatches(model, list);
+                if (step % 16 == 0) assertMatches(modelBefore, before);
+            }
+        }
+    }
+
+    @Test
+    void boundariesMatchArrayList() {
+        final List<Integer> model = new ArrayList<>();
+        TPersistentList<Integer> list = TPersistentList.empty();
+
+        for (int i = 0; i < LARGE; i++) {
+            list = list.plus(i);
+            model.add(i);
+        }
+
+        assertMatches(model, list);
+
+        while (!model.isEmpty()) {
+            list = list.minusLast();
+            model.remove(model.size() - 1);
+
+            if (model.size() % 31 == 0) assertMatches(model, list);
+        }
+
+        assertMatches(model, list);
+        assertThrows(IllegalStateException.class, list::minusLast);
+    }
+
+    // Checks that a list holds exactly the elements of its model, in order
+    private static void assertMatches(@Nonnull List<Integer> model, @Nonnull TPersistentList<Integer> list) {
+        assertEquals(model.size(), list.size());
+
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(model.get(i), list.get(i));
+        }
+
+        final Iterator<Integer> iterator = list.iterator();
+        for (Integer value : model) assertEquals(value, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        assertEquals(model, list);
+    }
+
+    private static final int SEEDS = 20;
+    private static final int STEPS = 400;
+    private static final int RUN = 200;
+
+    // Past 32 * 32 * 32 + 32 elements, where the trie gains its third level
+    private static final int LARGE = 40_000;
+}
@@ -0,0 +1,101 @@
+package oasis.artemis.collection.set;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>TPersistentSetTest</h2>
+ * <p>
+ * Checks random sequences of operations on {@link TPersistentSet} against a {@link HashSet}.
+ * </p>
+ */
+class TPersistentSetTest {
+    @Test
+    void randomOperationsMatchHashSet() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            final Random random = new Random(seed);
+            final Set<Element> model = new HashSet<>();
+            TPersistentSet<Element> set = TPersistentSet.empty();
+
+            for (int step = 0; step < STEPS; step++) {
+                final TPersistentSet<Element> before = set;
+                final Set<Element> modelBefore = new HashSet<>(model);
+
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        final Element element = randomElement(random);
+                        set = set.plus(element);
+                        model.add(element);
+                    }
+                    case 1 -> {
+                        final Element element = randomElement(random);
+                        set = set.minus(element);
+                        model.remove(element);
+                    }
+                    case 2 -> {
+                        final List<Element> batch = randomBatch(random);
+                        set = set.plusAll(batch);
+                        model.addAll(batch);
+                    }
+                    default -> {
+                        final List<Element> batch = randomBatch(random);
+                        set = set.minusAll(batch);
+                        batch.forEach(model::remove);
+                    }
+                }
+
+                assertMatches(model, set);
+                assertMatches(modelBefore, before);
+            }
+        }
+    }
+
+    // Checks that a set holds exactly the elements of its model
+    private static void assertMatches(@Nonnull Set<Element> model, @Nonnull TPersistentSet<Element> set) {
+        assertEquals(model.size(), set.size());
+        assertEquals(model, set);
+        assertEquals(model, new HashSet<>(set.list()));
+
+        for (int id = 0; id < ELEMENTS; id++) {
+            final Element element = new Element(id);
+            assertEquals(model.contains(element), set.contains(element));
+        }
+    }
+
+    // Picks up to BATCH elements, possibly repeated
+    @Nonnull
+    private static List<Element> randomBatch(@Nonnull Random random) {
+        final List<Element> batch = new ArrayList<>();
+        final int count = random.nextInt(BATCH);
+        for (int i = 0; i < count; i++) batch.add(randomElement(random));
+
+        return batch;
+    }
+
+    // Picks an element from the element space
+    @Nonnull
+    private static Element randomElement(@Nonnull Random random) {
+        return new Element(random.nextInt(ELEMENTS));
+    }
+
+    // An element whose hash code collides with every fourth other element
+    private record Element(int id) {
+        @Override
+        public int hashCode() {
+            return id % 4 == 0 ? 7 : id;
+        }
+    }
+
+    private static final int SEEDS = 50;
+    private static final int STEPS = 300;
+    private static final int ELEMENTS = 200;
+    private static final int BATCH = 80;
+}
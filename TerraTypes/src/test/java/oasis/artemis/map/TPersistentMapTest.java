@@ -0,0 +1,149 @@
+package oasis.artemis.map;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * <h2>TPersistentMapTest</h2>
+ * <p>
+ * Checks random sequences of operations on {@link TPersistentMap} against a {@link HashMap}.
+ * Half of the keys share a few hash codes, so collision nodes are created, nested and emptied.
+ * </p>
+ */
+class TPersistentMapTest {
+    @Test
+    void randomOperationsMatchHashMap() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            final Random random = new Random(seed);
+            final Map<Key, Integer> model = new HashMap<>();
+            TPersistentMap<Key, Integer> map = TPersistentMap.empty();
+
+            for (int step = 0; step < STEPS; step++) {
+                final TPersistentMap<Key, Integer> before = map;
+                final Map<Key, Integer> modelBefore = new HashMap<>(model);
+
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        final Key key = randomKey(random);
+                        final int value = random.nextInt(4);
+                        map = map.plus(key, value);
+                        model.put(key, value);
+                    }
+                    case 1 -> {
+                        final Key key = randomKey(random);
+                        map = map.minus(key);
+                        model.remove(key);
+                    }
+                    case 2 -> {
+                        final Map<Key, Integer> batch = new HashMap<>();
+                        final int count = random.nextInt(BATCH);
+                        for (int i = 0; i < count; i++) batch.put(randomKey(random), random.nextInt(4));
+
+                        map = map.plusAll(batch);
+                        model.putAll(batch);
+                    }
+                    default -> {
+                        final List<Key> batch = new ArrayList<>();
+                        final int count = random.nextInt(BATCH);
+                        for (int i = 0; i < count; i++) batch.add(randomKey(random));
+
+                        map = map.minusAll(batch);
+                        batch.forEach(model::remove);
+                    }
+                }
+
+                assertMatches(model, map);
+                assertMatches(modelBefore, before);
+            }
+        }
+    }
+
+    @Test
+    void collidingKeysAreKeptApart() {
+        final Map<Key, Integer> model = new HashMap<>();
+        TPersistentMap<Key, Integer> map = TPersistentMap.empty();
+
+        for (int id = 0; id < 64; id++) {
+            final Key key = new Key(id, 42);
+            map = map.plus(key, id);
+            model.put(key, id);
+        }
+
+        assertMatches(model, map);
+
+        for (int id = 0; id < 64; id += 2) {
+            final Key key = new Key(id, 42);
+            map = map.minus(key);
+            model.remove(key);
+        }
+
+        assertMatches(model, map);
+    }
+
+    @Test
+    void unchangedOperationsReturnSameMap() {
+        final Key key = new Key(1, 42);
+        final Integer value = 1;
+        final TPersistentMap<Key, Integer> map = TPersistentMap.<Key, Integer>empty().plus(key, value);
+
+        assertSame(map, map.plus(key, value));
+        assertSame(map, map.minus(new Key(2, 42)));
+    }
+
+    // Checks that a map holds exactly the entries of its model
+    private static void assertMatches(@Nonnull Map<Key, Integer> model, @Nonnull TPersistentMap<Key, Integer> map) {
+        assertEquals(model.size(), map.size());
+        assertEquals(model, map);
+        assertEquals(map, model);
+
+        final int[] visited = {0};
+        map.forEach((key, value) -> {
+            assertEquals(model.get(key), value);
+            visited[0]++;
+        });
+        assertEquals(model.size(), visited[0]);
+
+        for (int id = 0; id < KEYS; id++) {
+            final Key key = keyOf(id);
+            assertEquals(model.containsKey(key), map.containsKey(key));
+            assertEquals(model.get(key), map.get(key));
+        }
+    }
+
+    // Picks a key from the key space
+    @Nonnull
+    private static Key randomKey(@Nonnull Random random) {
+        return keyOf(random.nextInt(KEYS));
+    }
+
+    // Gets the key of given ID, half of the keys share one of a few hash codes
+    @Nonnull
+    private static Key keyOf(int id) {
+        return new Key(id, id % 2 == 0 ? SHARED_HASHES[(id / 2) % SHARED_HASHES.length] : id * 0x9E3779B9);
+    }
+
+    // A key with a chosen hash code
+    private record Key(int id, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final int SEEDS = 50;
+    private static final int STEPS = 300;
+    private static final int KEYS = 200;
+    private static final int BATCH = 80;
+
+    // Hash codes which collide entirely, or share their lowest bits
+    private static final int[] SHARED_HASHES = {0, 1, 32, 1 << 10, (1 << 10) | 1, 1 << 20, 31 << 25};
+}